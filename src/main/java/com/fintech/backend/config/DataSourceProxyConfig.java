@@ -0,0 +1,44 @@
+package com.fintech.backend.config;
+
+import net.ttddyy.dsproxy.listener.logging.SLF4JLogLevel;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wraps the application {@link DataSource} with datasource-proxy so that every JDBC statement
+ * is counted and timed per thread; {@link RequestQueryCountFilter} reads those counts per HTTP request.
+ *
+ * <p>Statements slower than {@code finwise.sql.slow-query-threshold-ms} are logged with their
+ * bind parameters on the {@code finwise.sql.slow} logger.</p>
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    public static final String DATA_SOURCE_NAME = "finwise";
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(
+            @Value("${finwise.sql.slow-query-threshold-ms:500}") long slowQueryThresholdMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(DATA_SOURCE_NAME)
+                            .countQuery()
+                            .logSlowQueryBySlf4j(slowQueryThresholdMs, TimeUnit.MILLISECONDS,
+                                    SLF4JLogLevel.WARN, "finwise.sql.slow")
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -37,6 +37,13 @@ public class GlobalExceptionHandler extends RuntimeException {
                 e.getMessage());
     }
 
+    @ExceptionHandler(ProductNotFoundException.class)
+    public ResponseEntity<HashMap<String, Object>> handleProductNotFoundException(ProductNotFoundException e) {
+        return formattedResponseMapping.getResponseFormat(HttpStatus.NOT_FOUND,
+                "Product Not Found",
+                e.getMessage());
+    }
+
     @ExceptionHandler(InvalidPasswordException.class)
     public ResponseEntity<HashMap<String, Object>> handleInvalidPasswordException(InvalidPasswordException e) {
         return formattedResponseMapping.getResponseFormat(
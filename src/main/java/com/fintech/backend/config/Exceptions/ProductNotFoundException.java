@@ -0,0 +1,7 @@
+package com.fintech.backend.config.Exceptions;
+
+public class ProductNotFoundException extends RuntimeException {
+    public ProductNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,92 @@
+package com.fintech.backend.config;
+
+import com.fintech.backend.utils.metrics.MetricsRecorder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Records the number of SQL statements and the total database time spent while serving each
+ * HTTP request as {@code finwise.http.queries} and {@code finwise.http.db.time}, tagged by
+ * method and URI template.
+ *
+ * <p>When {@code finwise.sql.response-headers} is enabled (non-prod only) the same values are
+ * returned as {@code X-SQL-Count} and {@code X-SQL-Time-Ms}. The body is buffered in that mode
+ * so the headers can still be set after the handler has written the response. Asynchronous responses
+ * (reactive results, streamed exports) get the counts of the request thread only, and their buffered
+ * body is sent once the async dispatch completes.</p>
+ */
+@Component
+public class RequestQueryCountFilter extends OncePerRequestFilter {
+
+    private final MetricsRecorder metrics;
+    private final boolean responseHeaders;
+
+    public RequestQueryCountFilter(MetricsRecorder metrics,
+                                   @Value("${finwise.sql.response-headers:false}") boolean responseHeaders) {
+        this.metrics = metrics;
+        this.responseHeaders = responseHeaders;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (isAsyncDispatch(request)) {
+            ContentCachingResponseWrapper cachingResponse =
+                    WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                if (cachingResponse != null) {
+                    cachingResponse.copyBodyToResponse();
+                }
+            }
+            return;
+        }
+        // Only REST responses are buffered; WebSocket/SockJS traffic must stream untouched
+        ContentCachingResponseWrapper cachingResponse = responseHeaders && request.getRequestURI().startsWith("/api/")
+                ? new ContentCachingResponseWrapper(response)
+                : null;
+        QueryCountHolder.clear();
+        try {
+            filterChain.doFilter(request, cachingResponse != null ? cachingResponse : response);
+        } finally {
+            QueryCount queryCount = QueryCountHolder.get(DataSourceProxyConfig.DATA_SOURCE_NAME);
+            long statements = queryCount == null ? 0 : queryCount.getTotal();
+            long dbTimeMs = queryCount == null ? 0 : queryCount.getTime();
+            QueryCountHolder.clear();
+
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+            metrics.record("http.queries", statements, "method", request.getMethod(), "uri", uri);
+            metrics.time("http.db.time", Duration.ofMillis(dbTimeMs), "method", request.getMethod(), "uri", uri);
+
+            if (cachingResponse != null) {
+                cachingResponse.setHeader("X-SQL-Count", String.valueOf(statements));
+                cachingResponse.setHeader("X-SQL-Time-Ms", String.valueOf(dbTimeMs));
+                if (!isAsyncStarted(request)) {
+                    cachingResponse.copyBodyToResponse();
+                }
+            }
+        }
+    }
+}
@@ -3,15 +3,21 @@ package com.fintech.backend.controllers;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fintech.backend.dto.CategoryGoalsDto;
 import com.fintech.backend.service.GoalsService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.HashMap;
 
 @RestController
 @RequestMapping("/api/goals")
 public class GoalsController extends FormattedResponseMapping {
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final LocalDate EARLIEST_RECORD_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate LATEST_RECORD_DATE = LocalDate.of(9999, 12, 31);
+
     private final GoalsService goalsService;
 
     public GoalsController(GoalsService goalsService) {
@@ -42,6 +48,33 @@ public class GoalsController extends FormattedResponseMapping {
         return getResponseFormat(HttpStatus.OK, "ALl Records Found", goalsService.getAllRecordsByCategory(userId, category.get("category").asText()));
     }
 
+    @GetMapping({"/progress/{userId}"})
+    public ResponseEntity<HashMap<String, Object>> getGoalProgress(@PathVariable Long userId) {
+        return getResponseFormat(HttpStatus.OK, "Goal Progress Found", goalsService.getGoalProgress(userId));
+    }
+
+    @GetMapping({"/history/{userId}"})
+    public ResponseEntity<HashMap<String, Object>> getGoalHistory(@PathVariable Long userId,
+                                                                  @RequestParam(defaultValue = "6") int months) {
+        return getResponseFormat(HttpStatus.OK, "Goal History Found", goalsService.getGoalHistory(userId, months));
+    }
+
+    @GetMapping({"/records/{userId}"})
+    public ResponseEntity<HashMap<String, Object>> getGoalRecordsPage(
+            @PathVariable Long userId,
+            @RequestParam String category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate beforeDate,
+            @RequestParam(required = false) Long beforeRecordId,
+            @RequestParam(defaultValue = "50") int size) {
+        return getResponseFormat(HttpStatus.OK, "Records Found", goalsService.getRecordsByCategory(userId, category,
+                from == null ? EARLIEST_RECORD_DATE : from,
+                to == null ? LATEST_RECORD_DATE : to,
+                beforeDate, beforeRecordId,
+                Math.min(Math.max(size, 1), MAX_PAGE_SIZE)));
+    }
+
     @GetMapping({"/summary/{userId}"})
     public ResponseEntity<HashMap<String, Object>> getSummary(@PathVariable Long userId) {
         return getResponseFormat(HttpStatus.OK, "Overall Summary Found", goalsService.getOverAllSavingPercentage(userId));
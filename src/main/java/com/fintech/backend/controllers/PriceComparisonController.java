@@ -0,0 +1,65 @@
+package com.fintech.backend.controllers;
+
+import com.fintech.backend.dto.BasketItemDto;
+import com.fintech.backend.dto.PriceObservationDto;
+import com.fintech.backend.service.PriceComparisonService;
+import com.fintech.backend.service.PriceHistoryService;
+import com.fintech.backend.service.SavingsSuggestionService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/prices")
+public class PriceComparisonController extends FormattedResponseMapping {
+    private final PriceComparisonService priceComparisonService;
+    private final SavingsSuggestionService savingsSuggestionService;
+    private final PriceHistoryService priceHistoryService;
+
+    public PriceComparisonController(PriceComparisonService priceComparisonService,
+                                     SavingsSuggestionService savingsSuggestionService,
+                                     PriceHistoryService priceHistoryService) {
+        this.priceComparisonService = priceComparisonService;
+        this.savingsSuggestionService = savingsSuggestionService;
+        this.priceHistoryService = priceHistoryService;
+    }
+
+    @GetMapping("/compare")
+    public ResponseEntity<HashMap<String, Object>> compareProduct(@RequestParam String product) {
+        return getResponseFormat(HttpStatus.OK, "Price Comparison Found", priceComparisonService.compareProduct(product));
+    }
+
+    @PostMapping("/compare")
+    public ResponseEntity<HashMap<String, Object>> compareBasket(@RequestBody List<BasketItemDto> basket) {
+        return getResponseFormat(HttpStatus.OK, "Basket Comparison Found", priceComparisonService.compareBasket(basket));
+    }
+
+    @PostMapping("/history")
+    public ResponseEntity<HashMap<String, Object>> recordPrices(@RequestBody List<PriceObservationDto> observations) {
+        return getResponseFormat(HttpStatus.CREATED, "Prices Recorded", priceHistoryService.recordPrices(observations));
+    }
+
+    @GetMapping("/history")
+    public ResponseEntity<HashMap<String, Object>> getPriceHistory(
+            @RequestParam String product,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate until = to != null ? to : LocalDate.now();
+        return getResponseFormat(HttpStatus.OK, "Price History Found",
+                priceHistoryService.getPriceHistory(product, from != null ? from : until.minusYears(1), until));
+    }
+
+    @GetMapping("/savings/{userId}")
+    public ResponseEntity<HashMap<String, Object>> getSavingsSuggestions(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        return getResponseFormat(HttpStatus.OK, "Savings Suggestions Found",
+                savingsSuggestionService.getSavingsSuggestions(userId, month != null ? month : YearMonth.now()));
+    }
+}
@@ -0,0 +1,42 @@
+package com.fintech.backend.controllers;
+
+import com.fintech.backend.dto.TransactionDetailsDto;
+import com.fintech.backend.service.ReactiveQueryService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+
+@RestController
+@RequestMapping("/api/reactive")
+public class ReactiveQueryController extends FormattedResponseMapping {
+    private final ReactiveQueryService reactiveQueryService;
+
+    public ReactiveQueryController(ReactiveQueryService reactiveQueryService) {
+        this.reactiveQueryService = reactiveQueryService;
+    }
+
+    @GetMapping(value = "/transactions/{userId}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<TransactionDetailsDto> streamTransactions(@PathVariable Long userId) {
+        return reactiveQueryService.streamTransactions(userId);
+    }
+
+    @GetMapping("/dashboard/{userId}")
+    public Mono<ResponseEntity<HashMap<String, Object>>> getDashboard(@PathVariable Long userId) {
+        return reactiveQueryService.getDashboard(userId)
+                .map(dashboard -> getResponseFormat(HttpStatus.OK, "Dashboard Found", dashboard));
+    }
+
+    @GetMapping("/goals/summary/{userId}")
+    public Mono<ResponseEntity<HashMap<String, Object>>> getGoalsSummary(@PathVariable Long userId) {
+        return reactiveQueryService.getGoalsSummary(userId)
+                .map(summary -> getResponseFormat(HttpStatus.OK, "Goals Summary Found", summary));
+    }
+}
@@ -0,0 +1,29 @@
+package com.fintech.backend.controllers;
+
+import com.fintech.backend.service.StoreLocatorService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+
+@RestController
+@RequestMapping("/api/stores")
+public class StoresController extends FormattedResponseMapping {
+    private static final int MAX_NEARBY = 50;
+
+    private final StoreLocatorService storeLocatorService;
+
+    public StoresController(StoreLocatorService storeLocatorService) {
+        this.storeLocatorService = storeLocatorService;
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<HashMap<String, Object>> getNearbyStores(@RequestParam double latitude,
+                                                                   @RequestParam double longitude,
+                                                                   @RequestParam(required = false) String chain,
+                                                                   @RequestParam(defaultValue = "5") int limit) {
+        return getResponseFormat(HttpStatus.OK, "Nearby Stores Found",
+                storeLocatorService.findNearest(latitude, longitude, chain, Math.clamp(limit, 1, MAX_NEARBY)));
+    }
+}
@@ -2,13 +2,18 @@ package com.fintech.backend.controllers;
 
 import com.fintech.backend.dto.TransactionDetailsDto;
 import com.fintech.backend.service.ReceiptAnalyzerService;
+import com.fintech.backend.service.TransactionExportService;
 import com.fintech.backend.service.TransactionsService;
+import com.fintech.backend.utils.enums.ExportFormat;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
 
@@ -18,10 +23,13 @@ import java.util.HashMap;
 public class TransactionController extends FormattedResponseMapping {
     private final TransactionsService transactionsService;
     private final ReceiptAnalyzerService receiptAnalyzerService;
+    private final TransactionExportService transactionExportService;
 
-    public TransactionController(TransactionsService transactionsService, ReceiptAnalyzerService receiptAnalyzerService) {
+    public TransactionController(TransactionsService transactionsService, ReceiptAnalyzerService receiptAnalyzerService,
+                                 TransactionExportService transactionExportService) {
         this.transactionsService = transactionsService;
         this.receiptAnalyzerService = receiptAnalyzerService;
+        this.transactionExportService = transactionExportService;
     }
 
     @GetMapping("/user/{id}")
@@ -29,6 +37,20 @@ public class TransactionController extends FormattedResponseMapping {
         return getResponseFormat(HttpStatus.OK, "Transactions Found", transactionsService.getAllTransactionsByUserId(id));
     }
 
+    @GetMapping("/{userId}/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(@PathVariable Long userId,
+                                                                    @RequestParam(required = false) String format) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        StreamingResponseBody body = transactionExportService.exportTransactions(userId, exportFormat);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.mediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("transactions-" + userId + "." + exportFormat.extension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     @PostMapping("/{userId}")
     private ResponseEntity<HashMap<String, Object>> createNewTransaction(@PathVariable Long userId, @RequestBody TransactionDetailsDto transactionDetailsDto) {
         return getResponseFormat(HttpStatus.CREATED, "Transaction Created", transactionsService.createNewTransaction(userId, transactionDetailsDto));
@@ -0,0 +1,15 @@
+package com.fintech.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BasketItemDto {
+    private String productName;
+    private Integer quantity;
+}
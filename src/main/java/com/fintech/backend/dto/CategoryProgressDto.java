@@ -0,0 +1,18 @@
+package com.fintech.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryProgressDto {
+    private Long goalCategoryId;
+    private String category;
+    private Double savingAmount;
+    private Double currentBalance;
+    private Double percentage;
+}
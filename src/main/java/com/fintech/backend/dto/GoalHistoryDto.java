@@ -0,0 +1,21 @@
+package com.fintech.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoalHistoryDto {
+    private Integer months;
+    private Integer completedMonths;
+    private Double successRate;
+    private Integer currentStreak;
+    private Integer longestStreak;
+    private List<GoalMonthHistoryDto> history;
+}
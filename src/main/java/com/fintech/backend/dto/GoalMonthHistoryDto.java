@@ -0,0 +1,23 @@
+package com.fintech.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoalMonthHistoryDto {
+    private Long goalId;
+    private String goalName;
+    private String month;
+    private String status;
+    private Double savingAmount;
+    private Double currentBalance;
+    private Double successRate;
+    private List<CategoryProgressDto> categories;
+}
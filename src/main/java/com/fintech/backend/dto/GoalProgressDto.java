@@ -0,0 +1,22 @@
+package com.fintech.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoalProgressDto {
+    private Long goalId;
+    private String goalName;
+    private String completionDate;
+    private Double savingAmount;
+    private Double currentBalance;
+    private Double percentage;
+    private List<CategoryProgressDto> categories;
+}
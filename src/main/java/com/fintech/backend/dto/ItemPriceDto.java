@@ -0,0 +1,21 @@
+package com.fintech.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemPriceDto {
+    private String productName;
+    private Integer quantity;
+    private String cheapestChain;
+    private Double unitPrice;
+    private Double totalPrice;
+    private Map<String, Double> pricesByChain;
+}
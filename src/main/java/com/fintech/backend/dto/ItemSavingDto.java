@@ -0,0 +1,20 @@
+package com.fintech.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemSavingDto {
+    private String productName;
+    private Long quantity;
+    private Double paid;
+    private String cheapestChain;
+    private Double cheapestUnitPrice;
+    private Double cheapestTotal;
+    private Double savings;
+}
@@ -0,0 +1,22 @@
+package com.fintech.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyStoreDto {
+    private Long storeId;
+    private String chain;
+    private String storeName;
+    private String locality;
+    private String fullAddress;
+    private Long pincode;
+    private Double latitude;
+    private Double longitude;
+    private Double distanceKm;
+}
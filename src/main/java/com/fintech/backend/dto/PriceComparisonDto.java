@@ -0,0 +1,22 @@
+package com.fintech.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceComparisonDto {
+    private List<ItemPriceDto> items;
+    private List<String> unmatched;
+    private Map<String, Double> chainTotals;
+    private String cheapestChain;
+    private Double cheapestChainTotal;
+    private Double splitBasketTotal;
+}
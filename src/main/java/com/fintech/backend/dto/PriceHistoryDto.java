@@ -0,0 +1,21 @@
+package com.fintech.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceHistoryDto {
+    private String productName;
+    private LocalDate from;
+    private LocalDate to;
+    private Map<String, List<PricePointDto>> pricesByChain;
+}
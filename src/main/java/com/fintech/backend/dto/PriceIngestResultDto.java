@@ -0,0 +1,19 @@
+package com.fintech.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceIngestResultDto {
+    private Integer received;
+    private Integer appended;
+    private Integer unchanged;
+    private List<String> rejected;
+}
@@ -0,0 +1,22 @@
+package com.fintech.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavingRecordsPageDto {
+    private List<SavingRecordsDto> records;
+    private int size;
+    private boolean hasNext;
+    // Cursor of the next page, null on the last one
+    private LocalDate nextBeforeDate;
+    private Long nextBeforeRecordId;
+}
@@ -0,0 +1,24 @@
+package com.fintech.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavingsSuggestionDto {
+    private String month;
+    private Double spent;
+    private Double cheapestTotal;
+    private Double potentialSavings;
+    private Map<String, Double> chainTotals;
+    private String bestSingleChain;
+    private Double bestSingleChainSavings;
+    private List<ItemSavingDto> items;
+}
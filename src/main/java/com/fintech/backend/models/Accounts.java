@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.web.bind.annotation.RequestBody;
 
 @Entity
@@ -21,7 +22,8 @@ public class Accounts {
     @JoinColumn(name = "user_id")
     private Users userId;
 
-    @Column(name = "account_name")
-    private Double currentBalance = 0.0;
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long currentBalancePaise;
 
 }
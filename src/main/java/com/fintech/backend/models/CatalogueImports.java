@@ -0,0 +1,37 @@
+package com.fintech.backend.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Last imported version of each catalogue CSV; one row per source file, identified by its SHA-256 content hash.
+ */
+@Entity
+@Table(name = "catalogue_imports", uniqueConstraints = @UniqueConstraint(columnNames = "source"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class CatalogueImports {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long importId;
+
+    private String source;
+
+    @Column(length = 64)
+    private String contentHash;
+
+    private Integer rowsInserted;
+
+    private Integer rowsUpdated;
+
+    private Instant importedAt;
+
+    public CatalogueImports(String source) {
+        this.source = source;
+    }
+}
@@ -4,9 +4,12 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "goal_categories")
+@Table(name = "goal_categories", indexes = {
+        @Index(name = "idx_goal_categories_category_goal", columnList = "category_id, goal_id")
+})
 @Getter
 @Setter
 @RequiredArgsConstructor
@@ -24,7 +27,11 @@ public class GoalCategories {
     @JoinColumn(name = "category_id")
     private Category categoryId;
 
-    private Double budgetedAmount;
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long budgetedAmountPaise;
 
-    private Double savedAmount;
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long savedAmountPaise;
 }
@@ -0,0 +1,55 @@
+package com.fintech.backend.models;
+
+import com.fintech.backend.utils.enums.JobStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * One key range of a scheduled job run. Keys {@code k} with {@code rangeStart < k <= rangeEnd} belong
+ * to the partition; {@code checkpoint} is the last key whose work has been committed.
+ */
+@Entity
+@Table(name = "job_partitions",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"job_name", "period", "range_start"}),
+        indexes = @Index(name = "idx_job_partitions_job_period_status", columnList = "job_name, period, status"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class JobPartitions {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long partitionId;
+
+    private String jobName;
+
+    private String period;
+
+    private Long rangeStart;
+
+    private Long rangeEnd;
+
+    private Long checkpoint;
+
+    private Long rowsProcessed;
+
+    @Enumerated(EnumType.STRING)
+    private JobStatus status;
+
+    private String owner;
+
+    private Instant leaseUntil;
+
+    public JobPartitions(String jobName, String period, Long rangeStart, Long rangeEnd) {
+        this.jobName = jobName;
+        this.period = period;
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
+        this.checkpoint = rangeStart;
+        this.rowsProcessed = 0L;
+        this.status = JobStatus.PENDING;
+    }
+}
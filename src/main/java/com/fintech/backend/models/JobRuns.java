@@ -0,0 +1,43 @@
+package com.fintech.backend.models;
+
+import com.fintech.backend.utils.enums.JobStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * History of scheduled job executions; one row per job invocation on a node.
+ */
+@Entity
+@Table(name = "job_runs", indexes = @Index(name = "idx_job_runs_job_started_at", columnList = "job_name, started_at"))
+@Getter
+@Setter
+public class JobRuns {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long runId;
+
+    private String jobName;
+
+    private String period;
+
+    private String node;
+
+    private Instant startedAt;
+
+    private Instant finishedAt;
+
+    private Long durationMs;
+
+    private Long rowsProcessed;
+
+    private Integer partitionsProcessed;
+
+    @Enumerated(EnumType.STRING)
+    private JobStatus status;
+
+    @Column(length = 1000)
+    private String error;
+}
@@ -5,11 +5,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "product_prices")
+@Table(name = "product_prices", indexes = {
+        @Index(name = "idx_product_prices_product_chain_date", columnList = "product_id, chain_id, date_recorded")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -27,14 +30,16 @@ public class ProductPrices {
     @JoinColumn(name = "chain_id")
     private Chian chainId;
 
-    private Double price;
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long pricePaise;
 
     private LocalDate dateRecorded;
 
-    public ProductPrices(Products productId, Chian chainId, Double price, LocalDate dateRecorded) {
+    public ProductPrices(Products productId, Chian chainId, long pricePaise, LocalDate dateRecorded) {
         this.productId = productId;
         this.chainId = chainId;
-        this.price = price;
+        this.pricePaise = pricePaise;
         this.dateRecorded = dateRecorded;
     }
 }
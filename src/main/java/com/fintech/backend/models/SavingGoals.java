@@ -3,11 +3,15 @@ package com.fintech.backend.models;
 import com.fintech.backend.utils.enums.Status;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "saving_goals")
+@Table(name = "saving_goals", indexes = {
+        @Index(name = "idx_saving_goals_status_completion_date", columnList = "status, completion_date"),
+        @Index(name = "idx_saving_goals_user_status_completion_date", columnList = "user_id, status, completion_date")
+})
 @Getter
 @Setter
 public class SavingGoals {
@@ -21,9 +25,13 @@ public class SavingGoals {
 
     private String goalName;
 
-    private Double goalAmount;
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long goalAmountPaise;
 
-    private Double currentBalance;
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long currentBalancePaise;
 
     private LocalDate completionDate;
 
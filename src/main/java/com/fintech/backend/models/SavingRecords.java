@@ -5,11 +5,14 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "saving_records")
+@Table(name = "saving_records", indexes = {
+        @Index(name = "idx_saving_records_goal_category_goal_date", columnList = "goal_id, category_goal_id, date")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -32,7 +35,9 @@ public class SavingRecords {
     @JoinColumn(name = "category_goal_id")
     private GoalCategories categoryGoalId;
 
-    private Double savedAmount;
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long savedAmountPaise;
 
     private LocalDate date;
 }
@@ -30,6 +30,10 @@ public class Stores {
     @Column(name = "pincode", length = 6)
     private Long pincode;
 
+    private Double latitude;
+
+    private Double longitude;
+
     public Stores(Chian chainId, String storeName, String locality, String fullAddress, Long pincode){
         this.chainId = chainId;
         this.storeName = storeName;
@@ -3,9 +3,12 @@ package com.fintech.backend.models;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "transaction_items")
+@Table(name = "transaction_items", indexes = {
+        @Index(name = "idx_transaction_items_transaction_product", columnList = "transaction_id, product_id")
+})
 @Getter
 @Setter
 public class TransactionItems {
@@ -23,7 +26,11 @@ public class TransactionItems {
 
     private Integer quantity;
 
-    private Double pricePerItem;
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long pricePerItemPaise;
 
-    private Double totalPrice;
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long totalPricePaise;
 }
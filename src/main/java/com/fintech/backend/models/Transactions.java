@@ -3,6 +3,7 @@ package com.fintech.backend.models;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 
@@ -12,7 +13,9 @@ import static java.util.Locale.ENGLISH;
 @Setter
 @Getter
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_transactions_user_date", columnList = "user_id, date")
+})
 public class Transactions {
     @Id
 //    @GeneratedValue(strategy = GenerationType.UUID)
@@ -42,7 +45,9 @@ public class Transactions {
 
     private String paymentMethod;
 
-    private Double totalTransactionAmount;
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long totalTransactionAmountPaise;
 
     private Boolean isExpense;
 
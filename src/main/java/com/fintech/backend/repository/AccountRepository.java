@@ -3,9 +3,19 @@ package com.fintech.backend.repository;
 import com.fintech.backend.models.Accounts;
 import com.fintech.backend.models.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Accounts, Long> {
     Accounts findByUserId(Users userId);
+
+    /**
+     * Adds {@code amountPaise} to the balance in the database, so concurrent transactions on the same account
+     * never overwrite each other. Clears the persistence context so later reads see the new balance.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Accounts a set a.currentBalancePaise = a.currentBalancePaise + :amountPaise where a.accountId = :accountId")
+    int addToBalance(Long accountId, long amountPaise);
 }
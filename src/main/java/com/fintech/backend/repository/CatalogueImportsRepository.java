@@ -0,0 +1,21 @@
+package com.fintech.backend.repository;
+
+import com.fintech.backend.models.CatalogueImports;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CatalogueImportsRepository extends JpaRepository<CatalogueImports, Long> {
+    boolean existsBySource(String source);
+
+    /**
+     * Reads the import row of a source and row-locks it until the transaction ends, so only one node syncs a
+     * source at a time.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<CatalogueImports> findBySource(String source);
+}
@@ -4,7 +4,11 @@ import com.fintech.backend.models.Chian;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface ChainRepository extends JpaRepository<Chian, Long> {
     Chian findByChainName(String chainName);
+
+    Optional<Chian> findFirstByChainNameIgnoreCaseOrderByChainIdAsc(String chainName);
 }
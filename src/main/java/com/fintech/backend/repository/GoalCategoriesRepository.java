@@ -6,7 +6,9 @@ import com.fintech.backend.models.GoalCategories;
 import com.fintech.backend.models.SavingGoals;
 import com.fintech.backend.models.Users;
 import com.fintech.backend.utils.enums.Status;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -27,5 +29,32 @@ public interface GoalCategoriesRepository extends JpaRepository<GoalCategories,
 
     List<GoalCategories> findAllByCategoryIdAndGoalId(Category category, SavingGoals goal);
 
+    List<GoalCategories> findAllByGoalId(SavingGoals goal);
+
     GoalCategories findByCategoryIdAndGoalId_UserIdAndGoalId_Status(Category category, Users user, Status status);
+
+    @Query("""
+            select gc from GoalCategories gc join fetch gc.goalId g
+            where gc.categoryId = :category and g.userId = :user and g.status = :status
+              and g.completionDate between :completionFrom and :completionTo
+            order by gc.goalCategoryId
+            """)
+    Optional<GoalCategories> findActiveGoalCategory(Category category, Users user, Status status,
+                                                    LocalDate completionFrom, LocalDate completionTo, Limit limit);
+
+    /**
+     * Reads the budgeted amount and row-locks the category goal until the transaction ends, so concurrent
+     * budget changes are applied one after another. Native, so it never returns a stale cached entity.
+     */
+    @Query(value = "SELECT budgeted_amount_paise FROM goal_categories WHERE goal_category_id = :goalCategoryId FOR UPDATE",
+            nativeQuery = true)
+    long lockBudgetedAmount(Long goalCategoryId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update GoalCategories gc set gc.budgetedAmountPaise = :budgetedAmountPaise where gc.goalCategoryId = :goalCategoryId")
+    int updateBudgetedAmount(Long goalCategoryId, long budgetedAmountPaise);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update GoalCategories gc set gc.savedAmountPaise = gc.savedAmountPaise + :amountPaise where gc.goalCategoryId = :goalCategoryId")
+    int addToSavedAmount(Long goalCategoryId, long amountPaise);
 }
@@ -0,0 +1,85 @@
+package com.fintech.backend.repository;
+
+import com.fintech.backend.models.JobPartitions;
+import com.fintech.backend.utils.enums.JobStatus;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Partition bookkeeping for {@code PartitionedJobRunner}. Every state change is a conditional update,
+ * so a partition is only ever worked on by the owner that holds an unexpired lease on it.
+ */
+@Repository
+public interface JobPartitionsRepository extends JpaRepository<JobPartitions, Long> {
+    boolean existsByJobNameAndPeriod(String jobName, String period);
+
+    @Query("""
+            select p.partitionId from JobPartitions p
+            where p.jobName = :jobName and p.period = :period and p.status <> :completed
+              and (p.leaseUntil is null or p.leaseUntil < :now)
+            order by p.rangeStart
+            """)
+    List<Long> findClaimable(String jobName, String period, JobStatus completed, Instant now, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update JobPartitions p
+            set p.owner = :owner, p.leaseUntil = :leaseUntil, p.status = :running
+            where p.partitionId = :partitionId and p.status <> :completed
+              and (p.leaseUntil is null or p.leaseUntil < :now)
+            """)
+    int claim(Long partitionId, String owner, Instant now, Instant leaseUntil, JobStatus running, JobStatus completed);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update JobPartitions p
+            set p.checkpoint = :checkpoint, p.rowsProcessed = p.rowsProcessed + :rows, p.leaseUntil = :leaseUntil
+            where p.partitionId = :partitionId and p.owner = :owner
+            """)
+    int advance(Long partitionId, String owner, Long checkpoint, long rows, Instant leaseUntil);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update JobPartitions p
+            set p.status = :completed, p.rowsProcessed = p.rowsProcessed + :rows, p.leaseUntil = null
+            where p.partitionId = :partitionId and p.owner = :owner
+            """)
+    int complete(Long partitionId, String owner, long rows, JobStatus completed);
+
+    /**
+     * Marks the partition failed and keeps it leased until {@code retryAfter}, so other workers back off
+     * before resuming it from its checkpoint.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update JobPartitions p
+            set p.status = :failed, p.leaseUntil = :retryAfter
+            where p.partitionId = :partitionId and p.owner = :owner
+            """)
+    int fail(Long partitionId, String owner, Instant retryAfter, JobStatus failed);
+
+    /**
+     * Re-opens the open-ended last partition of a completed period when keys beyond its checkpoint
+     * have appeared since, so a re-run only processes the new keys.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update JobPartitions p
+            set p.status = :pending
+            where p.jobName = :jobName and p.period = :period and p.rangeEnd = :openEnd
+              and p.status = :completed and p.checkpoint < :maxKey
+            """)
+    int reopenTail(String jobName, String period, Long openEnd, Long maxKey, JobStatus pending, JobStatus completed);
+}
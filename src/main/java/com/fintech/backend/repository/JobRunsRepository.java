@@ -0,0 +1,12 @@
+package com.fintech.backend.repository;
+
+import com.fintech.backend.models.JobRuns;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JobRunsRepository extends JpaRepository<JobRuns, Long> {
+    List<JobRuns> findTop20ByJobNameOrderByStartedAtDesc(String jobName);
+}
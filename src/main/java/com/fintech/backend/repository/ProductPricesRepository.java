@@ -2,8 +2,81 @@ package com.fintech.backend.repository;
 
 import com.fintech.backend.models.ProductPrices;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ProductPricesRepository extends JpaRepository<ProductPrices, Long> {
+
+    /**
+     * Reads the latest recorded price of every product at every chain; older price records are history.
+     */
+    @Query("""
+            select pr.productId as productId, pr.productName as productName, c.chainName as chainName,
+                   p.pricePaise as pricePaise
+            from ProductPrices p join p.productId pr join p.chainId c
+            where not exists (
+                select 1 from ProductPrices newer
+                where newer.productId = p.productId and newer.chainId = p.chainId
+                  and (newer.dateRecorded > p.dateRecorded
+                       or (newer.dateRecorded = p.dateRecorded and newer.priceRecordId > p.priceRecordId)))
+            """)
+    List<LatestPriceView> findLatestPrices();
+
+    /**
+     * Reads the latest price at every chain of the products sharing a name, ignoring case, with any of the given
+     * products, which is what one row of the price matrix is built from.
+     */
+    @Query("""
+            select pr.productId as productId, pr.productName as productName, c.chainName as chainName,
+                   p.pricePaise as pricePaise
+            from ProductPrices p join p.productId pr join p.chainId c
+            where lower(trim(pr.productName)) in (
+                select lower(trim(changed.productName)) from Products changed where changed.productId in :productIds)
+              and not exists (
+                select 1 from ProductPrices newer
+                where newer.productId = p.productId and newer.chainId = p.chainId
+                  and (newer.dateRecorded > p.dateRecorded
+                       or (newer.dateRecorded = p.dateRecorded and newer.priceRecordId > p.priceRecordId)))
+            """)
+    List<LatestPriceView> findLatestPricesOfNamesOf(Collection<Long> productIds);
+
+    /**
+     * Reads every price record of the given products, oldest first per product and chain. Each product is one
+     * range of the {@code (product_id, chain_id, date_recorded)} index.
+     */
+    @Query("""
+            select p.productId.productId as productId, c.chainId as chainId, c.chainName as chainName,
+                   p.dateRecorded as dateRecorded, p.pricePaise as pricePaise
+            from ProductPrices p join p.chainId c
+            where p.productId.productId in :productIds
+            order by p.productId.productId, c.chainId, p.dateRecorded, p.priceRecordId
+            """)
+    List<PriceHistoryView> findHistory(Collection<Long> productIds);
+
+    interface LatestPriceView {
+        Long getProductId();
+
+        String getProductName();
+
+        String getChainName();
+
+        long getPricePaise();
+    }
+
+    interface PriceHistoryView {
+        Long getProductId();
+
+        Long getChainId();
+
+        String getChainName();
+
+        LocalDate getDateRecorded();
+
+        long getPricePaise();
+    }
 }
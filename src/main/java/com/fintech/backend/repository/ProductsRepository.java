@@ -2,9 +2,26 @@ package com.fintech.backend.repository;
 
 import com.fintech.backend.models.Products;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface ProductsRepository extends JpaRepository<Products, String> {
+public interface ProductsRepository extends JpaRepository<Products, Long> {
     Products findByProductName(String productName);
+
+    Optional<Products> findFirstByProductNameIgnoreCaseOrderByProductIdAsc(String productName);
+
+    @Query("select p.productId as productId, p.productName as productName, p.brand as brand from Products p order by p.productId")
+    List<ProductNameView> findAllNames();
+
+    interface ProductNameView {
+        Long getProductId();
+
+        String getProductName();
+
+        String getBrand();
+    }
 }
@@ -3,11 +3,16 @@ package com.fintech.backend.repository;
 import com.fintech.backend.models.SavingGoals;
 import com.fintech.backend.utils.enums.Status;
 import com.fintech.backend.models.Users;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SavingGoalsRepository extends JpaRepository<SavingGoals, Long> {
@@ -19,5 +24,93 @@ public interface SavingGoalsRepository extends JpaRepository<SavingGoals, Long>
 
     SavingGoals findByStatusAndUserId(Status status, Users userId);
 
+    Optional<SavingGoals> findFirstByStatusAndUserIdOrderByCompletionDateDesc(Status status, Users userId);
+
     List<SavingGoals> findAllByUserIdAndCompletionDateBetween(Users userId, LocalDate completionDateAfter, LocalDate completionDateBefore);
+
+    @Query("""
+            select u.userId from Users u
+            where u.userId in :userIds
+              and not exists (select g.goalId from SavingGoals g where g.userId = u and g.goalName = :goalName)
+            """)
+    List<Long> findUserIdsWithoutGoal(Collection<Long> userIds, String goalName);
+
+    /**
+     * Inserts one ACTIVE goal per listed user in a single statement. Users that already have a goal
+     * with {@code goalName} are skipped, so re-running a month's rollover inserts nothing.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO saving_goals (user_id, goal_name, goal_amount_paise, current_balance_paise, completion_date, status)
+            SELECT u.user_id, :goalName, 0, 0, :completionDate, 'ACTIVE'
+            FROM users u
+            WHERE u.user_id IN (:userIds)
+              AND NOT EXISTS (SELECT 1 FROM saving_goals g WHERE g.user_id = u.user_id AND g.goal_name = :goalName)
+            """, nativeQuery = true)
+    int insertMonthlyGoals(Collection<Long> userIds, String goalName, LocalDate completionDate);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update SavingGoals g set g.currentBalancePaise = g.currentBalancePaise + :amountPaise where g.goalId = :goalId")
+    int addToCurrentBalance(Long goalId, long amountPaise);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update SavingGoals g set g.goalAmountPaise = g.goalAmountPaise + :amountPaise where g.goalId = :goalId")
+    int addToGoalAmount(Long goalId, long amountPaise);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update SavingGoals g set g.goalAmountPaise = :amountPaise where g.goalId = :goalId")
+    int setGoalAmount(Long goalId, long amountPaise);
+
+    /**
+     * Closes every ACTIVE goal whose completion date is before {@code today} in one statement:
+     * funded goals become {@code completed}, the rest {@code onHold}. Goals closed in earlier runs
+     * are not touched again.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update SavingGoals g
+            set g.status = case when g.currentBalancePaise >= g.goalAmountPaise then :completed else :onHold end
+            where g.status = :active and g.completionDate < :today
+            """)
+    int closeExpiredGoals(LocalDate today, Status active, Status completed, Status onHold);
+
+    /**
+     * Reads the closed goals of a user completing on or after {@code completionFrom}, with the budgeted and saved
+     * amounts of their category goals summed per category, newest first. Goals without category goals yield one
+     * row with a {@code null} category.
+     */
+    @Query("""
+            select g.goalId as goalId, g.goalName as goalName, g.completionDate as completionDate, g.status as status,
+                   g.goalAmountPaise as goalAmountPaise, g.currentBalancePaise as currentBalancePaise,
+                   c.category as category,
+                   sum(gc.budgetedAmountPaise) as budgetedAmountPaise, sum(gc.savedAmountPaise) as savedAmountPaise
+            from SavingGoals g
+            left join GoalCategories gc on gc.goalId = g
+            left join gc.categoryId c
+            where g.userId = :user and g.status in :statuses and g.completionDate >= :completionFrom
+            group by g.goalId, g.goalName, g.completionDate, g.status, g.goalAmountPaise, g.currentBalancePaise, c.category
+            order by g.completionDate desc, g.goalId desc, c.category
+            """)
+    List<GoalHistoryRow> findGoalHistory(Users user, Collection<Status> statuses, LocalDate completionFrom);
+
+    interface GoalHistoryRow {
+        Long getGoalId();
+
+        String getGoalName();
+
+        LocalDate getCompletionDate();
+
+        Status getStatus();
+
+        long getGoalAmountPaise();
+
+        long getCurrentBalancePaise();
+
+        String getCategory();
+
+        Long getBudgetedAmountPaise();
+
+        Long getSavedAmountPaise();
+    }
 }
@@ -1,15 +1,46 @@
 package com.fintech.backend.repository;
 
-import com.fintech.backend.dto.SavingRecordsDto;
 import com.fintech.backend.models.Category;
 import com.fintech.backend.models.SavingRecords;
 import com.fintech.backend.models.Users;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
 public interface SavingRecordsRepository extends JpaRepository<SavingRecords, Long> {
     List<SavingRecords> findAllByGoalId_UserIdAndCategoryGoalId_CategoryId(Users userById, Category category);
+
+    /**
+     * Reads up to {@code limit} of a user's saving records for a category dated on or after {@code from} that come
+     * after the cursor {@code (beforeDate, beforeRecordId)} in newest-first order, selecting only the columns the
+     * records screen shows. The cursor is the last record of the previous page, so deep pages cost the same as the
+     * first; start from {@code (to, Long.MAX_VALUE)} to read everything up to and including {@code to}.
+     */
+    @Query("""
+            select r.recordId as recordId, t.transactionId as transactionId, r.savedAmountPaise as savedAmountPaise,
+                   r.date as date, t.timeGroup as timeGroup
+            from SavingRecords r join r.transactionId t join r.goalId g join r.categoryGoalId gc
+            where g.userId = :user and gc.categoryId = :category and r.date >= :from
+              and (r.date < :beforeDate or (r.date = :beforeDate and r.recordId < :beforeRecordId))
+            order by r.date desc, r.recordId desc
+            """)
+    List<SavingRecordView> findRecordViews(Users user, Category category, LocalDate from, LocalDate beforeDate,
+                                           long beforeRecordId, Limit limit);
+
+    interface SavingRecordView {
+        Long getRecordId();
+
+        String getTransactionId();
+
+        long getSavedAmountPaise();
+
+        LocalDate getDate();
+
+        String getTimeGroup();
+    }
 }
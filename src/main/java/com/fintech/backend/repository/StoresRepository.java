@@ -2,8 +2,42 @@ package com.fintech.backend.repository;
 
 import com.fintech.backend.models.Stores;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface StoresRepository extends JpaRepository<Stores, Long> {
+
+    /**
+     * Every store with coordinates, with its chain name, for the in-memory store locator.
+     */
+    @Query("""
+            select s.storeId as storeId, c.chainName as chainName, s.storeName as storeName,
+                   s.locality as locality, s.fullAddress as fullAddress, s.pincode as pincode,
+                   s.latitude as latitude, s.longitude as longitude
+            from Stores s join s.chainId c
+            where s.latitude is not null and s.longitude is not null
+            order by s.storeId
+            """)
+    List<LocatedStoreView> findAllLocated();
+
+    interface LocatedStoreView {
+        Long getStoreId();
+
+        String getChainName();
+
+        String getStoreName();
+
+        String getLocality();
+
+        String getFullAddress();
+
+        Long getPincode();
+
+        Double getLatitude();
+
+        Double getLongitude();
+    }
 }
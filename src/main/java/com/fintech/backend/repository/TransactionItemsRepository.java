@@ -2,12 +2,57 @@ package com.fintech.backend.repository;
 
 import com.fintech.backend.models.TransactionItems;
 import com.fintech.backend.models.Transactions;
+import com.fintech.backend.models.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface TransactionItemsRepository extends JpaRepository<TransactionItems, Long> {
     List<TransactionItems> findAllByTransactionId(Transactions transactionId);
+
+    List<TransactionItems> findAllByTransactionIdIn(Collection<Transactions> transactionIds);
+
+    /**
+     * Joins the user's items bought between {@code from} (inclusive) and {@code to} (exclusive) with the latest
+     * price of each product at every chain, one row per product and chain. The quantity and amount paid are the
+     * user's totals for the product, so they repeat on each of its chain rows. Items of products with no recorded
+     * price are left out.
+     */
+    @Query("""
+            select pr.productId as productId, pr.productName as productName, c.chainName as chainName,
+                   pp.pricePaise as pricePaise, coalesce(sum(i.quantity), 0) as quantity,
+                   sum(i.totalPricePaise) as paidPaise
+            from TransactionItems i
+            join i.transactionId t
+            join i.productId pr
+            join ProductPrices pp on pp.productId = pr
+            join pp.chainId c
+            where t.userId = :user and t.date >= :from and t.date < :to
+              and not exists (
+                select 1 from ProductPrices newer
+                where newer.productId = pp.productId and newer.chainId = pp.chainId
+                  and (newer.dateRecorded > pp.dateRecorded
+                       or (newer.dateRecorded = pp.dateRecorded and newer.priceRecordId > pp.priceRecordId)))
+            group by pr.productId, pr.productName, c.chainName, pp.pricePaise
+            """)
+    List<ItemChainPriceView> findItemPricesAcrossChains(Users user, LocalDate from, LocalDate to);
+
+    interface ItemChainPriceView {
+        Long getProductId();
+
+        String getProductName();
+
+        String getChainName();
+
+        long getPricePaise();
+
+        long getQuantity();
+
+        long getPaidPaise();
+    }
 }
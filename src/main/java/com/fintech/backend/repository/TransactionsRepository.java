@@ -3,7 +3,9 @@ package com.fintech.backend.repository;
 import com.fintech.backend.dto.TransactionsDto;
 import com.fintech.backend.models.Transactions;
 import com.fintech.backend.models.Users;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -19,4 +21,19 @@ public interface TransactionsRepository extends JpaRepository<Transactions, Stri
     Transactions findByUserId(Users userId);
 
     List<Transactions> findAllByUserIdAndDateBetween(Users userId, LocalDate dateAfter, LocalDate dateBefore);
+
+    List<Transactions> findAllByUserIdOrderByDateDescTransactionIdAsc(Users userId, Limit limit);
+
+    /**
+     * Reads up to {@code limit} of a user's transactions that come after the cursor
+     * {@code (afterDate, afterTransactionId)} in newest-first order. The cursor is the last transaction of the
+     * previous page, so transactions inserted meanwhile do not shift later pages.
+     */
+    @Query("""
+            select t from Transactions t
+            where t.userId = :user
+              and (t.date < :afterDate or (t.date = :afterDate and t.transactionId > :afterTransactionId))
+            order by t.date desc, t.transactionId asc
+            """)
+    List<Transactions> findPageAfter(Users user, LocalDate afterDate, String afterTransactionId, Limit limit);
 }
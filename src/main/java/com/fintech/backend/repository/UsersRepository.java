@@ -1,10 +1,13 @@
 package com.fintech.backend.repository;
 
 import com.fintech.backend.models.Users;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,4 +19,10 @@ public interface UsersRepository extends JpaRepository<Users, Long> {
     Users findByUserIdAndFingerPrintId(Long userId, String fingerPrintId);
 
     Users findByFingerPrintId(String fingerPrintKey);
+
+    @Query("select u.userId from Users u where u.userId > :afterUserId and u.userId <= :upToUserId order by u.userId")
+    List<Long> findUserIdsBetween(Long afterUserId, Long upToUserId, Limit limit);
+
+    @Query("select coalesce(max(u.userId), 0) from Users u")
+    long findMaxUserId();
 }
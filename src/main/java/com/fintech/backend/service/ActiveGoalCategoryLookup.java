@@ -0,0 +1,132 @@
+package com.fintech.backend.service;
+
+import com.fintech.backend.models.Category;
+import com.fintech.backend.models.Users;
+import com.fintech.backend.repository.GoalCategoriesRepository;
+import com.fintech.backend.utils.enums.Status;
+import com.fintech.backend.utils.metrics.MetricsRecorder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resolves the category goal a spending date counts towards: the user's {@link Status#ACTIVE} goal for the
+ * category whose saving goal completes in the month after the date.
+ *
+ * <p>Results are cached per user, category and completion month and served without touching the database. A goal
+ * only stops being active when the expiry job closes it, which clears the cache on every node, and the monthly
+ * rollover evicts the users it rolls over. A lookup that finds no goal is cached too, until the user creates a
+ * category goal or the next rollover. Because a goal created on another node cannot evict it here, such an entry
+ * also expires after {@code finwise.goals.missing-category-goal-ttl}. A generation counter stops a lookup that
+ * started before an eviction from putting its older result back.</p>
+ */
+@Slf4j
+@Service
+public class ActiveGoalCategoryLookup {
+    private final GoalCategoriesRepository goalCategoriesRepository;
+    private final MetricsRecorder metrics;
+    private final Duration missingTtl;
+    private final Map<Key, Entry> goalCategories = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public ActiveGoalCategoryLookup(GoalCategoriesRepository goalCategoriesRepository,
+                                    @Value("${finwise.goals.missing-category-goal-ttl:1m}") Duration missingTtl,
+                                    MetricsRecorder metrics) {
+        this.goalCategoriesRepository = goalCategoriesRepository;
+        this.missingTtl = missingTtl;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Finds the active category goal that spending on {@code date} counts towards.
+     *
+     * @param category the spending category; {@code null} never matches
+     * @param user     the goal owner
+     * @param date     the spending date
+     * @return the IDs of the matching category goal and its saving goal, if any
+     */
+    public Optional<ActiveGoalCategory> find(Category category, Users user, LocalDate date) {
+        if (category == null) {
+            return Optional.empty();
+        }
+        YearMonth completionMonth = YearMonth.from(date).plusMonths(1);
+        Key key = new Key(user.getUserId(), category.getCategoryId(), completionMonth);
+
+        Entry entry = goalCategories.get(key);
+        long now = System.nanoTime();
+        if (entry != null && (entry.goal() != null || now - entry.loadedAt() < missingTtl.toNanos())) {
+            metrics.cacheRequest("active-goal-category", true);
+            return Optional.ofNullable(entry.goal());
+        }
+
+        metrics.cacheRequest("active-goal-category", false);
+        long loadGeneration = generation.get();
+        Optional<ActiveGoalCategory> goal = goalCategoriesRepository.findActiveGoalCategory(category, user,
+                        Status.ACTIVE, completionMonth.atDay(1), completionMonth.atEndOfMonth(), Limit.of(1))
+                .map(found -> new ActiveGoalCategory(found.getGoalCategoryId(), found.getGoalId().getGoalId()));
+        goalCategories.compute(key, (k, current) ->
+                generation.get() != loadGeneration ? current : new Entry(goal.orElse(null), now));
+        return goal;
+    }
+
+    /**
+     * Drops the cached goals of the given users, e.g. after their monthly goal was rolled over.
+     */
+    public void evictUsers(Collection<Long> userIds) {
+        generation.incrementAndGet();
+        goalCategories.keySet().removeIf(key -> userIds.contains(key.userId()));
+    }
+
+    /**
+     * Drops the user's cached goals once the current transaction commits, or right away outside a transaction,
+     * e.g. after the user created a category goal.
+     */
+    public void evictUserAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictUsers(List.of(userId));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictUsers(List.of(userId));
+            }
+        });
+    }
+
+    /**
+     * Drops every cached goal, e.g. after expired goals were closed.
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        goalCategories.clear();
+        log.info("Active goal category cache cleared");
+    }
+
+    /**
+     * @param goalCategoryId the category goal spending counts towards
+     * @param goalId         the saving goal the category goal belongs to
+     */
+    public record ActiveGoalCategory(Long goalCategoryId, Long goalId) {
+    }
+
+    private record Key(Long userId, String categoryId, YearMonth completionMonth) {
+    }
+
+    // goal is null when the lookup found no active goal
+    private record Entry(ActiveGoalCategory goal, long loadedAt) {
+    }
+}
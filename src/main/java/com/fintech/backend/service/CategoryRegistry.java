@@ -0,0 +1,81 @@
+package com.fintech.backend.service;
+
+import com.fintech.backend.models.Category;
+import com.fintech.backend.utils.enums.CategoryType;
+import com.fintech.backend.utils.metrics.MetricsRecorder;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Resolves category names to the seeded {@link Category} rows without querying the database.
+ *
+ * <p>The categories are a fixed set, {@link CategoryType}, seeded under fixed IDs, so the registry builds one
+ * {@code Category} per type once and never changes. Names and aliases are keyed by their upper-cased letters and
+ * digits, so "groceries", "Food &amp; Drink" and "FOOD_DRINK" resolve with a single hash lookup. The returned
+ * entities are shared and detached; they are only used as references on new rows and as query parameters.</p>
+ */
+@Component
+public class CategoryRegistry {
+    private final MetricsRecorder metrics;
+    private final Map<CategoryType, Category> categories = new EnumMap<>(CategoryType.class);
+    private final Map<String, Category> byName;
+    private final Map<String, Category> byAlias;
+
+    public CategoryRegistry(MetricsRecorder metrics) {
+        this.metrics = metrics;
+        Map<String, Category> byName = new HashMap<>();
+        Map<String, Category> byAlias = new HashMap<>();
+        for (CategoryType type : CategoryType.values()) {
+            Category category = new Category(type.categoryId(), type.name());
+            categories.put(type, category);
+            byName.put(key(type.name()), category);
+            type.aliases().forEach(alias -> byAlias.put(key(alias), category));
+        }
+        this.byName = Map.copyOf(byName);
+        this.byAlias = Map.copyOf(byAlias);
+    }
+
+    /**
+     * Returns the category with the given name or alias, ignoring case, spaces and punctuation; anything else,
+     * {@code null} included, resolves to {@code OTHER}.
+     */
+    public Category resolve(String name) {
+        String key = name == null ? "" : key(name);
+        Category category = byName.get(key);
+        if (category != null) {
+            metrics.increment("categories.resolve", "result", "name");
+            return category;
+        }
+        category = byAlias.get(key);
+        if (category != null) {
+            metrics.increment("categories.resolve", "result", "alias");
+            return category;
+        }
+        metrics.increment("categories.resolve", "result", "unknown");
+        return categories.get(CategoryType.OTHER);
+    }
+
+    public Category get(CategoryType type) {
+        return categories.get(type);
+    }
+
+    public List<Category> all() {
+        return List.copyOf(categories.values());
+    }
+
+    private static String key(String name) {
+        StringBuilder key = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                key.append(c);
+            }
+        }
+        return key.toString().toUpperCase(Locale.ROOT);
+    }
+}
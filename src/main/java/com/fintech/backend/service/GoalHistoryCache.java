@@ -0,0 +1,57 @@
+package com.fintech.backend.service;
+
+import com.fintech.backend.dto.GoalMonthHistoryDto;
+import com.fintech.backend.utils.metrics.MetricsRecorder;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Per-user cache of the closed months of the goal history.
+ *
+ * <p>Closed goals only change when the expiry job closes the month's active goals, which clears this cache
+ * on the node that ran it. Entries are also dropped when the date changes, so other nodes pick up a rollover
+ * by the next day at the latest. A generation counter stops a read that overlapped a clear from putting its
+ * older history back.</p>
+ */
+@Service
+public class GoalHistoryCache {
+    private final MetricsRecorder metrics;
+    private final Map<Long, Entry> histories = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public GoalHistoryCache(MetricsRecorder metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the cached history of the user, loading and caching it with {@code loader} when absent or loaded
+     * on an earlier day.
+     */
+    public List<GoalMonthHistoryDto> get(Long userId, Supplier<List<GoalMonthHistoryDto>> loader) {
+        LocalDate today = LocalDate.now();
+        Entry entry = histories.get(userId);
+        if (entry != null && entry.loadedOn().equals(today)) {
+            metrics.cacheRequest("goal-history", true);
+            return entry.history();
+        }
+        metrics.cacheRequest("goal-history", false);
+        long loadGeneration = generation.get();
+        List<GoalMonthHistoryDto> history = List.copyOf(loader.get());
+        histories.compute(userId, (id, current) -> generation.get() == loadGeneration ? new Entry(history, today) : current);
+        return history;
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        histories.clear();
+    }
+
+    private record Entry(List<GoalMonthHistoryDto> history, LocalDate loadedOn) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.fintech.backend.service;
+
+import com.fintech.backend.dto.GoalProgressDto;
+import com.fintech.backend.utils.metrics.MetricsRecorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Per-user snapshot of the goals screen.
+ *
+ * <p>Every goal or transaction write evicts the user's snapshot once its transaction has committed, and the
+ * next read rebuilds it. {@link LoadGenerations} stops a read that started before an eviction from putting its
+ * older snapshot back. Entries also expire after {@code finwise.goals.progress-ttl}, which bounds how long a
+ * write on another node can go unseen.</p>
+ */
+@Service
+public class GoalProgressCache {
+    private final MetricsRecorder metrics;
+    private final Duration ttl;
+    private final Map<Long, Entry> snapshots = new ConcurrentHashMap<>();
+    private final LoadGenerations<Long> generations = new LoadGenerations<>();
+
+    public GoalProgressCache(MetricsRecorder metrics, @Value("${finwise.goals.progress-ttl:30s}") Duration ttl) {
+        this.metrics = metrics;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Returns the cached snapshot of the user, building and caching it with {@code loader} when absent or expired.
+     */
+    public GoalProgressDto get(Long userId, Supplier<GoalProgressDto> loader) {
+        Entry entry = snapshots.get(userId);
+        long now = System.nanoTime();
+        if (entry != null && now - entry.loadedAt() < ttl.toNanos()) {
+            metrics.cacheRequest("goal-progress", true);
+            return entry.snapshot();
+        }
+        metrics.cacheRequest("goal-progress", false);
+        long generation = generations.begin(userId);
+        GoalProgressDto snapshot;
+        try {
+            snapshot = loader.get();
+        } catch (RuntimeException e) {
+            generations.finish(userId, generation, () -> { });
+            throw e;
+        }
+        generations.finish(userId, generation, () -> snapshots.put(userId, new Entry(snapshot, now)));
+        return snapshot;
+    }
+
+    /**
+     * Evicts the user's snapshot after the current transaction commits, or immediately outside a transaction.
+     */
+    public void evictAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userId);
+            }
+        });
+    }
+
+    public void evict(Long userId) {
+        generations.invalidate(userId);
+        snapshots.remove(userId);
+    }
+
+    public void clear() {
+        generations.invalidateAll();
+        snapshots.clear();
+    }
+
+    private record Entry(GoalProgressDto snapshot, long loadedAt) {
+    }
+}
@@ -4,70 +4,108 @@ import com.fintech.backend.config.Exceptions.GoalCategoryNotFoundException;
 import com.fintech.backend.dto.CategoryGoalDetailsDto;
 import com.fintech.backend.dto.CategoryGoalIdDto;
 import com.fintech.backend.dto.CategoryGoalsDto;
+import com.fintech.backend.dto.CategoryProgressDto;
+import com.fintech.backend.dto.GoalHistoryDto;
+import com.fintech.backend.dto.GoalMonthHistoryDto;
+import com.fintech.backend.dto.GoalProgressDto;
 import com.fintech.backend.dto.SavingRecordsDto;
+import com.fintech.backend.dto.SavingRecordsPageDto;
 import com.fintech.backend.models.*;
 import com.fintech.backend.repository.*;
 import com.fintech.backend.utils.enums.Status;
 import com.fintech.backend.utils.mappers.GenericDtoMapper;
 import com.fintech.backend.utils.mappers.GenericResponseFactory;
+import com.fintech.backend.utils.metrics.MetricsRecorder;
+import com.fintech.backend.utils.money.Money;
+import io.micrometer.core.instrument.Timer;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.text.DecimalFormat;
 import java.time.LocalDate;
 import java.time.Month;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Service
 public class GoalsService extends BaseService {
     private final GoalCategoriesRepository goalCategoriesRepository;
     private final SavingGoalsRepository savingGoalsRepository;
-    private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
     private final SavingRecordsRepository savingRecordsRepository;
     private final SimpMessagingTemplate simpMessagingTemplate;
+    private final ActiveGoalCategoryLookup activeGoalCategoryLookup;
+    private final GoalProgressCache goalProgressCache;
+    private final GoalHistoryCache goalHistoryCache;
+    private final int historyMaxMonths;
+    private final MetricsRecorder metrics;
 
     public GoalsService(GenericDtoMapper mapper,
                         GenericResponseFactory responseFactory,
                         UsersRepository usersRepository,
                         GoalCategoriesRepository goalCategoriesRepository,
                         SavingGoalsRepository savingGoalsRepository,
-                        CategoryRepository categoryRepository,
+                        CategoryRegistry categoryRegistry,
                         SavingRecordsRepository savingRecordsRepository,
-                        SimpMessagingTemplate simpMessagingTemplate) {
+                        SimpMessagingTemplate simpMessagingTemplate,
+                        ActiveGoalCategoryLookup activeGoalCategoryLookup,
+                        GoalProgressCache goalProgressCache,
+                        GoalHistoryCache goalHistoryCache,
+                        @Value("${finwise.goals.history-max-months:24}") int historyMaxMonths,
+                        MetricsRecorder metrics) {
         super(mapper, responseFactory, usersRepository);
         this.goalCategoriesRepository = goalCategoriesRepository;
         this.savingGoalsRepository = savingGoalsRepository;
-        this.categoryRepository = categoryRepository;
+        this.categoryRegistry = categoryRegistry;
         this.savingRecordsRepository = savingRecordsRepository;
         this.simpMessagingTemplate = simpMessagingTemplate;
+        this.activeGoalCategoryLookup = activeGoalCategoryLookup;
+        this.goalProgressCache = goalProgressCache;
+        this.goalHistoryCache = goalHistoryCache;
+        this.historyMaxMonths = historyMaxMonths;
+        this.metrics = metrics;
     }
 
     /**
-     * Creates a new monthly saving goal for the given user.
+     * Creates the monthly saving goal for a page of users with one set-based insert.
      *
-     * <p>Initializes the goal with {@link Status#ACTIVE} and persists it.</p>
+     * <p>Goals start as {@link Status#ACTIVE} with zero amounts. Users that already have a goal named
+     * {@code goalName} are left untouched, so the rollover can safely be re-run for the same month.
+     * Each newly rolled-over user receives a single goal push once the page has committed.</p>
      *
-     * @param user           the owner of the saving goal
+     * @param userIds        the users of this page
      * @param goalName       a human-readable name for the goal (e.g., "November 2025 Saving Goal")
      * @param completionDate the date by which the goal should be completed
+     * @return the number of goals created
      */
     @Transactional
-    public void createSavingGoalForUser(Users user, String goalName, LocalDate completionDate) {
-        SavingGoals savingGoal = new SavingGoals();
-        savingGoal.setUserId(user);
-        savingGoal.setGoalName(goalName);
-        savingGoal.setCompletionDate(completionDate);
-        savingGoal.setStatus(Status.ACTIVE);
-        savingGoal.setCurrentBalance(0.0);
-        savingGoal.setGoalAmount(0.0);
-        savingGoalsRepository.save(savingGoal);
-        log.info("{} saving goal created for user: {}", savingGoal.getGoalName(), user.getUserId());
-        pushGoalUpdate(user.getUserId());
+    public int createMonthlySavingGoals(List<Long> userIds, String goalName, LocalDate completionDate) {
+        List<Long> pendingUserIds = savingGoalsRepository.findUserIdsWithoutGoal(userIds, goalName);
+        if (pendingUserIds.isEmpty()) {
+            return 0;
+        }
+        int created = savingGoalsRepository.insertMonthlyGoals(pendingUserIds, goalName, completionDate);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                activeGoalCategoryLookup.evictUsers(pendingUserIds);
+                pendingUserIds.forEach(goalProgressCache::evict);
+                pendingUserIds.forEach(GoalsService.this::pushGoalUpdate);
+            }
+        });
+        return created;
     }
 
     @Transactional
@@ -77,9 +115,10 @@ public class GoalsService extends BaseService {
             log.error("Saving goal not found for user: {}", userId);
             throw new RuntimeException("Saving goal not found for user: " + userId);
         }
-        savingGoal.setGoalAmount(newGoalAmount);
-        savingGoalsRepository.save(savingGoal);
+        // Only the goal amount is written, so concurrent balance increments are kept
+        savingGoalsRepository.setGoalAmount(savingGoal.getGoalId(), Money.toPaise(newGoalAmount));
         log.info("Saving goal updated for user: {}", userId);
+        goalProgressCache.evictAfterCommit(userId);
         pushGoalUpdate(userId);
         return newGoalAmount;
     }
@@ -96,9 +135,10 @@ public class GoalsService extends BaseService {
      */
     @Transactional
     public Double createOrUpdateCategoryGoalForUser(Long userId, CategoryGoalsDto categoryGoalsDto) {
-        Long goalCategoryId = getCategoryGoalIdFromCategory(categoryGoalsDto.getCategory(), userId) == null
-                ? 0
-                : getCategoryGoalIdFromCategory(categoryGoalsDto.getCategory(), userId);
+        Long goalCategoryId = getCategoryGoalIdFromCategory(categoryGoalsDto.getCategory(), userId);
+        if (goalCategoryId == null) {
+            goalCategoryId = 0L;
+        }
         try {
             if (goalCategoryId != 0) {
                 // --- Update Logic ---
@@ -127,11 +167,8 @@ public class GoalsService extends BaseService {
     public List<CategoryGoalDetailsDto> getAllCategoryGoalDetails(Long userId, String categoryName) {
 
         // 1. Validate Category and User retrieval
-        Category category = categoryRepository.findByCategory(categoryName.toUpperCase());
+        Category category = categoryRegistry.resolve(categoryName);
         log.info("Category: {}", category.getCategory());
-        if (category == null) {
-            category = categoryRepository.findByCategory("OTHER");
-        }
 
         // 2. Fetch all relevant goals
         List<GoalCategories> goalCategories = goalCategoriesRepository
@@ -161,16 +198,16 @@ public class GoalsService extends BaseService {
 
                     // Set financial amounts
                     // Defensive check to ensure amounts are not null before calculations
-                    Double budgetedAmount = goals.getBudgetedAmount() != null ? goals.getBudgetedAmount() : 0.0;
-                    Double savedAmount = goals.getSavedAmount() != null ? goals.getSavedAmount() : 0.0;
+                    long budgetedAmountPaise = goals.getBudgetedAmountPaise();
+                    long savedAmountPaise = goals.getSavedAmountPaise();
 
-                    detailsDto.setBudgetedAmount(budgetedAmount);
-                    detailsDto.setSavedAmount(savedAmount);
+                    detailsDto.setBudgetedAmount(Money.toRupees(budgetedAmountPaise));
+                    detailsDto.setSavedAmount(Money.toRupees(savedAmountPaise));
 
-                    if (budgetedAmount > 0) {
+                    if (budgetedAmountPaise > 0) {
                         // Remaining Percentage = ((Budgeted - Saved) / Budgeted) * 100
                         detailsDto.setRemainingPercentage(
-                                ((budgetedAmount - savedAmount) / budgetedAmount) * 100.0
+                                ((budgetedAmountPaise - savedAmountPaise) / (double) budgetedAmountPaise) * 100.0
                         );
                     } else {
                         // If budget is zero, remaining percentage is 0.0
@@ -183,23 +220,63 @@ public class GoalsService extends BaseService {
     }
 
     public List<SavingRecordsDto> getAllRecordsByCategory(Long userId, String categoryName) {
-        Category category = categoryRepository.findByCategory(categoryName.toUpperCase());
-        if (category == null) {
-            category = categoryRepository.findByCategory("OTHER");
-        }
+        Category category = categoryRegistry.resolve(categoryName);
         return savingRecordsRepository.findAllByGoalId_UserIdAndCategoryGoalId_CategoryId(getUserById(userId), category)
                 .stream()
                 .map(record -> {
                     SavingRecordsDto savingRecordsDto = new SavingRecordsDto();
                     savingRecordsDto.setTransactionId(record.getTransactionId().getTransactionId());
                     savingRecordsDto.setDate(String.valueOf(record.getDate()));
-                    savingRecordsDto.setSavedAmount(record.getSavedAmount());
+                    savingRecordsDto.setSavedAmount(Money.toRupees(record.getSavedAmountPaise()));
                     savingRecordsDto.setTimeGroup(record.getTransactionId().getTimeGroup());
                     return savingRecordsDto;
                 })
                 .toList();
     }
 
+    /**
+     * Retrieves one page of a user's saving records for a category within a date range, newest first.
+     *
+     * <p>Reads the displayed columns with a single query instead of loading each record and its transaction. Pages
+     * are keyed by the date and ID of the last record returned, passed back as {@code beforeDate} and
+     * {@code beforeRecordId}, so a deep page does not skip over the earlier ones.</p>
+     *
+     * @param userId         the user's ID
+     * @param categoryName   the category name; unknown names fall back to {@code OTHER}
+     * @param from           the first date to include
+     * @param to             the last date to include
+     * @param beforeDate     date of the last record of the previous page, or {@code null} for the first page
+     * @param beforeRecordId ID of the last record of the previous page, or {@code null} for the first page
+     * @param size           the number of records to load
+     * @return a {@link SavingRecordsPageDto} with the records and the cursor of the next page
+     */
+    public SavingRecordsPageDto getRecordsByCategory(Long userId, String categoryName, LocalDate from, LocalDate to,
+                                                     LocalDate beforeDate, Long beforeRecordId, int size) {
+        Category category = categoryRegistry.resolve(categoryName);
+        boolean firstPage = beforeDate == null || beforeRecordId == null || beforeDate.isAfter(to);
+        // One extra row tells whether another page follows
+        List<SavingRecordsRepository.SavingRecordView> rows = savingRecordsRepository.findRecordViews(getUserById(userId),
+                category, from, firstPage ? to : beforeDate, firstPage ? Long.MAX_VALUE : beforeRecordId,
+                Limit.of(size + 1));
+        boolean hasNext = rows.size() > size;
+        List<SavingRecordsRepository.SavingRecordView> page = hasNext ? rows.subList(0, size) : rows;
+        SavingRecordsRepository.SavingRecordView last = hasNext ? page.get(page.size() - 1) : null;
+        return SavingRecordsPageDto.builder()
+                .records(page.stream()
+                        .map(record -> SavingRecordsDto.builder()
+                                .transactionId(record.getTransactionId())
+                                .savedAmount(Money.toRupees(record.getSavedAmountPaise()))
+                                .date(String.valueOf(record.getDate()))
+                                .timeGroup(record.getTimeGroup())
+                                .build())
+                        .toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextBeforeDate(last == null ? null : last.getDate())
+                .nextBeforeRecordId(last == null ? null : last.getRecordId())
+                .build();
+    }
+
     public List<CategoryGoalIdDto> getListOfCurrentGoalsByCategory(Long userId) {
         Users user = getUserById(userId);
         Month currentMonth = LocalDate.now().getMonth();
@@ -224,51 +301,183 @@ public class GoalsService extends BaseService {
                 .toList();
     }
 
+    /**
+     * Returns the whole goals screen of a user: the active saving goal with its progress and the progress of
+     * each of its category goals.
+     *
+     * <p>Served from {@link GoalProgressCache}; a miss costs two queries.</p>
+     *
+     * @param userId the user's ID
+     * @return a {@link GoalProgressDto}; amounts are zero when the user has no active goal
+     */
+    public GoalProgressDto getGoalProgress(Long userId) {
+        return goalProgressCache.get(userId, () -> buildGoalProgress(userId));
+    }
+
+    /**
+     * Returns the closed saving goals of a user over the last {@code months} months with their success rates and
+     * streaks.
+     *
+     * <p>A month's success rate is the share of its category goals whose saved amount reached the budgeted
+     * amount; the overall rate and the streaks count months whose goal was {@link Status#COMPLETED}. A streak is
+     * broken by an on-hold month or by a month without a goal. The closed months are read with one grouped query
+     * and served from {@link GoalHistoryCache} until the next rollover.</p>
+     *
+     * @param userId the user's ID
+     * @param months how many months to look back, capped at {@code finwise.goals.history-max-months}
+     * @return a {@link GoalHistoryDto} listing the months newest first
+     */
+    public GoalHistoryDto getGoalHistory(Long userId, int months) {
+        int window = Math.min(Math.max(months, 1), historyMaxMonths);
+        return summarizeHistory(goalHistoryCache.get(userId, () -> buildGoalHistory(userId)), window, YearMonth.now());
+    }
+
+    /**
+     * Keeps the closed months within {@code window} months before {@code thisMonth} and works out their success
+     * rate and streaks.
+     *
+     * @param closedMonths the user's closed months, newest first
+     */
+    static GoalHistoryDto summarizeHistory(List<GoalMonthHistoryDto> closedMonths, int window, YearMonth thisMonth) {
+        YearMonth earliestMonth = thisMonth.minusMonths(window);
+        List<GoalMonthHistoryDto> history = closedMonths.stream()
+                .filter(month -> !YearMonth.parse(month.getMonth()).isBefore(earliestMonth))
+                .toList();
+
+        int completedMonths = 0;
+        int longestStreak = 0;
+        int streak = 0;
+        YearMonth previousMonth = null;
+        for (GoalMonthHistoryDto month : history.reversed()) {
+            YearMonth current = YearMonth.parse(month.getMonth());
+            boolean completed = Status.COMPLETED.name().equals(month.getStatus());
+            if (completed) {
+                completedMonths++;
+                streak = previousMonth != null && previousMonth.plusMonths(1).equals(current) ? streak + 1 : 1;
+            } else {
+                streak = 0;
+            }
+            longestStreak = Math.max(longestStreak, streak);
+            previousMonth = current;
+        }
+        // The running streak only counts when it reaches last month's goal
+        boolean streakIsCurrent = previousMonth != null && !previousMonth.isBefore(thisMonth.minusMonths(1));
+
+        return GoalHistoryDto.builder()
+                .months(window)
+                .completedMonths(completedMonths)
+                .successRate(history.isEmpty() ? 0.0 : percentage(completedMonths, history.size()))
+                .currentStreak(streakIsCurrent ? streak : 0)
+                .longestStreak(longestStreak)
+                .history(history)
+                .build();
+    }
+
     public Map<String, Double> getOverAllSavingPercentage(Long userId) {
-        DecimalFormat df = new DecimalFormat("#.##");
-        Users user = getUserById(userId);
-        SavingGoals savingGoals = savingGoalsRepository.findByStatusAndUserId(Status.ACTIVE, user);
-        Double savingAmount = savingGoals.getGoalAmount();
-        Double currentBalance = savingGoals.getCurrentBalance();
-        Double percentage = (currentBalance / savingAmount) * 100;
+        GoalProgressDto progress = getGoalProgress(userId);
         Map<String, Double> response = new HashMap<>();
-        response.put("percentage", percentage.isNaN() ? 0.0 : Double.parseDouble(df.format(percentage)));
-        response.put("currentBalance", currentBalance.isNaN() ? 0.0 : Double.parseDouble(df.format(currentBalance)));
-        response.put("savingAmount", savingAmount.isNaN() ? 0.0 : Double.parseDouble(df.format(savingAmount)));
+        response.put("percentage", progress.getPercentage());
+        response.put("currentBalance", progress.getCurrentBalance());
+        response.put("savingAmount", progress.getSavingAmount());
         return response;
     }
 
     public Map<String, Double> getSavingPercentagePerCategory(Long userId, String categoryName) {
-        DecimalFormat df = new DecimalFormat("#.##");
-        Users user = getUserById(userId);
-        Category category = categoryRepository.findByCategory(categoryName.toUpperCase());
-        if (category == null) {
-            category = categoryRepository.findByCategory("OTHER");
-        }
-        GoalCategories goalCategories = goalCategoriesRepository.findByCategoryIdAndGoalId_UserIdAndGoalId_Status(category, user, Status.ACTIVE);
-        Double savingAmount = goalCategories.getBudgetedAmount();
-        Double currentBalance = goalCategories.getSavedAmount();
-        Double percentage = (currentBalance / savingAmount) * 100;
+        List<CategoryProgressDto> categories = getGoalProgress(userId).getCategories();
+        // Aliases resolve like everywhere else in the service; unknown names resolve to OTHER
+        String category = categoryRegistry.resolve(categoryName).getCategory();
+        CategoryProgressDto categoryProgress = findCategoryProgress(categories, category)
+                .orElseGet(() -> CategoryProgressDto.builder().savingAmount(0.0).currentBalance(0.0).percentage(0.0).build());
         Map<String, Double> response = new HashMap<>();
-        response.put("currentBalance", currentBalance.isNaN() ? 0.0 : Double.parseDouble(df.format(currentBalance)));
-        response.put("savingAmount", savingAmount.isNaN() ? 0.0 : Double.parseDouble(df.format(savingAmount)));
-        response.put("percentage", percentage.isNaN() ? 0.0 : Double.parseDouble(df.format(percentage)));
+        response.put("currentBalance", categoryProgress.getCurrentBalance());
+        response.put("savingAmount", categoryProgress.getSavingAmount());
+        response.put("percentage", categoryProgress.getPercentage());
         return response;
     }
 
-    private Long getCategoryGoalIdFromCategory(String category, Long userId) {
-        Category categoryEntity = categoryRepository.findByCategory(category.toUpperCase());
-        if (categoryEntity == null) {
-            categoryEntity = categoryRepository.findByCategory("OTHER");
+    private GoalProgressDto buildGoalProgress(Long userId) {
+        Optional<SavingGoals> activeGoal = savingGoalsRepository
+                .findFirstByStatusAndUserIdOrderByCompletionDateDesc(Status.ACTIVE, getUserById(userId));
+        if (activeGoal.isEmpty()) {
+            return GoalProgressDto.builder()
+                    .savingAmount(0.0).currentBalance(0.0).percentage(0.0).categories(List.of())
+                    .build();
         }
-        return goalCategoriesRepository.findAllByCategoryIdAndGoalId_UserId(categoryEntity, getUserById(userId))
+        SavingGoals savingGoal = activeGoal.get();
+        List<CategoryProgressDto> categories = goalCategoriesRepository.findAllByGoalId(savingGoal)
                 .stream()
-                .filter(goal -> goal.getGoalId().getCompletionDate().getMonth() == LocalDate.now().getMonth().plus(1)
-                        && goal.getGoalId().getCompletionDate().getYear() == LocalDate.now().getYear()
-                        && goal.getGoalId().getStatus() == Status.ACTIVE
-                )
-                .map(GoalCategories::getGoalCategoryId)
-                .findFirst()
+                .map(goalCategory -> CategoryProgressDto.builder()
+                        .goalCategoryId(goalCategory.getGoalCategoryId())
+                        .category(goalCategory.getCategoryId().getCategory())
+                        .savingAmount(Money.toRupees(goalCategory.getBudgetedAmountPaise()))
+                        .currentBalance(Money.toRupees(goalCategory.getSavedAmountPaise()))
+                        .percentage(percentage(goalCategory.getSavedAmountPaise(), goalCategory.getBudgetedAmountPaise()))
+                        .build())
+                .toList();
+        return GoalProgressDto.builder()
+                .goalId(savingGoal.getGoalId())
+                .goalName(savingGoal.getGoalName())
+                .completionDate(String.valueOf(savingGoal.getCompletionDate()))
+                .savingAmount(Money.toRupees(savingGoal.getGoalAmountPaise()))
+                .currentBalance(Money.toRupees(savingGoal.getCurrentBalancePaise()))
+                .percentage(percentage(savingGoal.getCurrentBalancePaise(), savingGoal.getGoalAmountPaise()))
+                .categories(categories)
+                .build();
+    }
+
+    private List<GoalMonthHistoryDto> buildGoalHistory(Long userId) {
+        LocalDate completionFrom = YearMonth.now().minusMonths(historyMaxMonths).plusMonths(1).atDay(1);
+        Map<Long, GoalMonthHistoryDto> months = new LinkedHashMap<>();
+        for (SavingGoalsRepository.GoalHistoryRow row : savingGoalsRepository.findGoalHistory(getUserById(userId),
+                EnumSet.of(Status.COMPLETED, Status.ON_HOLD), completionFrom)) {
+            GoalMonthHistoryDto month = months.computeIfAbsent(row.getGoalId(), goalId -> GoalMonthHistoryDto.builder()
+                    .goalId(goalId)
+                    .goalName(row.getGoalName())
+                    .month(YearMonth.from(row.getCompletionDate()).minusMonths(1).toString())
+                    .status(row.getStatus().name())
+                    .savingAmount(Money.toRupees(row.getGoalAmountPaise()))
+                    .currentBalance(Money.toRupees(row.getCurrentBalancePaise()))
+                    .categories(new ArrayList<>())
+                    .build());
+            if (row.getCategory() != null) {
+                long budgetedPaise = row.getBudgetedAmountPaise() == null ? 0 : row.getBudgetedAmountPaise();
+                long savedPaise = row.getSavedAmountPaise() == null ? 0 : row.getSavedAmountPaise();
+                month.getCategories().add(CategoryProgressDto.builder()
+                        .category(row.getCategory())
+                        .savingAmount(Money.toRupees(budgetedPaise))
+                        .currentBalance(Money.toRupees(savedPaise))
+                        .percentage(percentage(savedPaise, budgetedPaise))
+                        .build());
+            }
+        }
+        for (GoalMonthHistoryDto month : months.values()) {
+            List<CategoryProgressDto> categories = month.getCategories();
+            long achieved = categories.stream()
+                    .filter(category -> category.getCurrentBalance() >= category.getSavingAmount())
+                    .count();
+            month.setSuccessRate(categories.isEmpty()
+                    ? (Status.COMPLETED.name().equals(month.getStatus()) ? 100.0 : 0.0)
+                    : percentage(achieved, categories.size()));
+        }
+        return new ArrayList<>(months.values());
+    }
+
+    private static Optional<CategoryProgressDto> findCategoryProgress(List<CategoryProgressDto> categories, String category) {
+        return categories.stream().filter(progress -> progress.getCategory().equals(category)).findFirst();
+    }
+
+    private static double percentage(long amountPaise, long totalPaise) {
+        if (totalPaise <= 0) {
+            return 0.0;
+        }
+        return Math.round((double) amountPaise / totalPaise * 10_000) / 100.0;
+    }
+
+    private Long getCategoryGoalIdFromCategory(String category, Long userId) {
+        Category categoryEntity = categoryRegistry.resolve(category);
+        // Goals for the current month complete on the 1st of the next month
+        return activeGoalCategoryLookup.find(categoryEntity, getUserById(userId), LocalDate.now())
+                .map(ActiveGoalCategoryLookup.ActiveGoalCategory::goalCategoryId)
                 .orElse(null);
     }
 
@@ -279,21 +488,22 @@ public class GoalsService extends BaseService {
 
         // Set properties
         goalCategories.setGoalId(savingGoal);
-        goalCategories.setCategoryId(categoryRepository.findByCategory(categoryGoalsDto.getCategory().toUpperCase()));
-        goalCategories.setBudgetedAmount(categoryGoalsDto.getBudgetedAmount());
-        goalCategories.setSavedAmount(0.0);
-        savingGoal.setGoalAmount(savingGoal.getGoalAmount() + categoryGoalsDto.getBudgetedAmount());
+        goalCategories.setCategoryId(categoryRegistry.resolve(categoryGoalsDto.getCategory()));
+        goalCategories.setBudgetedAmountPaise(Money.toPaise(categoryGoalsDto.getBudgetedAmount()));
+        goalCategories.setSavedAmountPaise(0L);
 
         // Save
         goalCategoriesRepository.save(goalCategories);
         log.info("Category Goal created for user: {}", userId);
 
         // Update parent Saving Goal amount
-        savingGoalsRepository.save(savingGoal);
+        savingGoalsRepository.addToGoalAmount(savingGoal.getGoalId(), goalCategories.getBudgetedAmountPaise());
         log.info("Updated saving goal amount for user: {}", userId);
 
+        goalProgressCache.evictAfterCommit(userId);
+        activeGoalCategoryLookup.evictUserAfterCommit(userId);
         pushGoalUpdate(userId);
-        return goalCategories.getBudgetedAmount();
+        return Money.toRupees(goalCategories.getBudgetedAmountPaise());
     }
 
     // --- Helper Method for Update ---
@@ -301,36 +511,38 @@ public class GoalsService extends BaseService {
         GoalCategories goalCategory = goalCategoriesRepository.findByGoalCategoryId(goalCategoryId)
                 .orElseThrow(() -> new GoalCategoryNotFoundException("Category goal not found for ID: " + goalCategoryId));
 
-        Double previousBudgetedAmount = goalCategory.getBudgetedAmount();
+        // Lock the row so concurrent budget changes compute their difference from the latest amount
+        long previousBudgetedAmountPaise = goalCategoriesRepository.lockBudgetedAmount(goalCategoryId);
 
         // Calculate the difference in amount
-        Double amountDifference = newBudgetedAmount - previousBudgetedAmount;
+        long newBudgetedAmountPaise = Money.toPaise(newBudgetedAmount);
+        long amountDifferencePaise = newBudgetedAmountPaise - previousBudgetedAmountPaise;
 
         // Update the Category Goal amount
-        goalCategory.setBudgetedAmount(newBudgetedAmount);
+        goalCategoriesRepository.updateBudgetedAmount(goalCategoryId, newBudgetedAmountPaise);
+        log.info("Category Goal updated for Goal ID: {}", goalCategoryId);
 
         // Update the parent Saving Goal amount
         SavingGoals savingGoal = goalCategory.getGoalId();
-        savingGoal.setGoalAmount(savingGoal.getGoalAmount() + amountDifference);
-
-        // Save changes
-        goalCategoriesRepository.save(goalCategory);
-        log.info("Category Goal updated for Goal ID: {}", goalCategoryId);
-
-        savingGoalsRepository.save(savingGoal);
-        log.info("Saving Goal updated for user: {}", savingGoal.getUserId());
+        savingGoalsRepository.addToGoalAmount(savingGoal.getGoalId(), amountDifferencePaise);
+        log.info("Saving Goal updated for user: {}", savingGoal.getUserId().getUserId());
 
-        pushGoalUpdate(goalCategory.getGoalId().getUserId().getUserId());
-        return goalCategory.getBudgetedAmount();
+        goalProgressCache.evictAfterCommit(savingGoal.getUserId().getUserId());
+        pushGoalUpdate(savingGoal.getUserId().getUserId());
+        return newBudgetedAmount;
     }
 
     private void pushGoalUpdate(Long userId) {
         final String destination = "/topic/goals/" + userId;
+        Timer.Sample sample = metrics.start();
         try {
             simpMessagingTemplate.convertAndSend(destination, "Goal Detailed Updated to DB on server");
             log.info("Goals Update broadcast on {}", destination);
         } catch (Exception e) {
+            metrics.increment("websocket.push.failures", "topic", "goals");
             log.error("Failed to broadcast goals on {}. Error: {}", destination, e.getMessage());
+        } finally {
+            metrics.stop(sample, "websocket.push", "topic", "goals");
         }
     }
 }
@@ -0,0 +1,55 @@
+package com.fintech.backend.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-key generation counters for caches that evict one key at a time, kept only while a load of the key is in
+ * flight.
+ *
+ * <p>A cache calls {@link #begin} before loading a key and {@link #finish} afterwards, which stores the result only
+ * if the key was not invalidated in between, so a read that started before an eviction cannot put its older result
+ * back. A key's counter is dropped when its last load finishes, so the map holds the keys being loaded rather than
+ * every key ever seen.</p>
+ */
+final class LoadGenerations<K> {
+    private final Map<K, Loads> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a load of the key and returns the generation to pass to {@link #finish}.
+     */
+    long begin(K key) {
+        return inFlight.merge(key, new Loads(1, 0),
+                (current, added) -> new Loads(current.count() + 1, current.generation())).generation();
+    }
+
+    /**
+     * Ends a load started with {@link #begin}, running {@code store} if the key was not invalidated since. The store
+     * runs atomically with respect to {@link #invalidate} of the same key.
+     */
+    void finish(K key, long generation, Runnable store) {
+        inFlight.compute(key, (k, loads) -> {
+            if (loads.generation() == generation) {
+                store.run();
+            }
+            return loads.count() == 1 ? null : new Loads(loads.count() - 1, loads.generation());
+        });
+    }
+
+    /**
+     * Makes loads of the key that are in flight skip their store. Call before removing the cached value.
+     */
+    void invalidate(K key) {
+        inFlight.computeIfPresent(key, (k, loads) -> new Loads(loads.count(), loads.generation() + 1));
+    }
+
+    /**
+     * Makes every load in flight skip its store. Call before clearing the cache.
+     */
+    void invalidateAll() {
+        inFlight.replaceAll((k, loads) -> new Loads(loads.count(), loads.generation() + 1));
+    }
+
+    private record Loads(int count, long generation) {
+    }
+}
@@ -0,0 +1,214 @@
+package com.fintech.backend.service;
+
+import com.fintech.backend.dto.BasketItemDto;
+import com.fintech.backend.dto.ItemPriceDto;
+import com.fintech.backend.dto.PriceComparisonDto;
+import com.fintech.backend.repository.ProductPricesRepository;
+import com.fintech.backend.utils.catalogue.CatalogueChangedEvent;
+import com.fintech.backend.utils.catalogue.PriceMatrix;
+import com.fintech.backend.utils.catalogue.PricesRecordedEvent;
+import com.fintech.backend.utils.metrics.MetricsRecorder;
+import com.fintech.backend.utils.money.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Compares the latest prices of products across store chains.
+ *
+ * <p>Queries are answered from an in-memory {@link PriceMatrix} rather than the database: the matrix is loaded when
+ * the application is ready and swapped for a fresh one whenever the catalogue sync or a price ingestion reports a
+ * change, so a basket costs a handful of array reads per item. Readers always see one complete matrix because it is
+ * immutable and replaced through a single volatile write.</p>
+ *
+ * <p>A price ingestion only rebuilds the rows of the products it changed, on a copy of the matrix, so recording a
+ * price does not rescan every latest price. Rebuilds take a {@link ReentrantLock} rather than the object monitor, as
+ * they run queries and are reached from virtual threads, which a monitor would pin to their carrier.</p>
+ */
+@Slf4j
+@Service
+public class PriceComparisonService {
+    private final ProductPricesRepository productPricesRepository;
+    private final MetricsRecorder metrics;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile PriceMatrix matrix;
+
+    public PriceComparisonService(ProductPricesRepository productPricesRepository, MetricsRecorder metrics) {
+        this.productPricesRepository = productPricesRepository;
+        this.metrics = metrics;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    @EventListener
+    public void onCatalogueChanged(CatalogueChangedEvent event) {
+        log.info("Catalogue changed ({}), reloading price matrix", event.sources());
+        reload();
+    }
+
+    @EventListener
+    public void onPricesRecorded(PricesRecordedEvent event) {
+        log.info("Prices recorded for {} products, updating price matrix", event.productIds().size());
+        refreshProducts(event.productIds());
+    }
+
+    /**
+     * Rebuilds the matrix from the latest price of every product at every chain.
+     */
+    public PriceMatrix reload() {
+        rebuildLock.lock();
+        try {
+            PriceMatrix loaded = metrics.time("prices.matrix.load", () -> {
+                List<ProductPricesRepository.LatestPriceView> prices = productPricesRepository.findLatestPrices();
+                TreeSet<String> chains = new TreeSet<>();
+                prices.forEach(price -> chains.add(price.getChainName()));
+                PriceMatrix.Builder builder = PriceMatrix.builder(List.copyOf(chains));
+                prices.forEach(price -> builder.price(price.getProductName(), price.getChainName(), price.getPricePaise()));
+                return builder.build();
+            });
+            matrix = loaded;
+            log.info("Price matrix loaded: {} products across {} chains", loaded.productCount(), loaded.chainCount());
+            return loaded;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the rows of the given products from their latest prices. Falls back to a full reload when no matrix
+     * is loaded yet or a price names a chain the matrix does not have.
+     */
+    public PriceMatrix refreshProducts(Collection<Long> productIds) {
+        rebuildLock.lock();
+        try {
+            PriceMatrix current = matrix;
+            if (current == null) {
+                return reload();
+            }
+            if (productIds.isEmpty()) {
+                return current;
+            }
+            List<ProductPricesRepository.LatestPriceView> prices = metrics.time("prices.matrix.patch",
+                    () -> productPricesRepository.findLatestPricesOfNamesOf(productIds));
+            Set<String> chains = new HashSet<>();
+            for (int chain = 0; chain < current.chainCount(); chain++) {
+                chains.add(current.chainName(chain));
+            }
+            if (!prices.stream().allMatch(price -> chains.contains(price.getChainName()))) {
+                return reload();
+            }
+            PriceMatrix.Builder builder = current.toBuilderWithout(
+                    prices.stream().map(ProductPricesRepository.LatestPriceView::getProductName).toList());
+            prices.forEach(price -> builder.price(price.getProductName(), price.getChainName(), price.getPricePaise()));
+            PriceMatrix patched = builder.build();
+            matrix = patched;
+            return patched;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public PriceComparisonDto compareProduct(String productName) {
+        return compareBasket(List.of(BasketItemDto.builder().productName(productName).quantity(1).build()));
+    }
+
+    /**
+     * Prices a basket at every chain. Items are matched by product name, ignoring case; names with no price at any
+     * chain are reported as unmatched and left out of the totals. A chain gets a basket total only when it prices
+     * every matched item, while the split total buys each item wherever it is cheapest.
+     */
+    public PriceComparisonDto compareBasket(List<BasketItemDto> basket) {
+        return metrics.time("prices.compare", () -> compare(currentMatrix(), basket));
+    }
+
+    private PriceMatrix currentMatrix() {
+        PriceMatrix current = matrix;
+        if (current != null) {
+            return current;
+        }
+        rebuildLock.lock();
+        try {
+            // Another request may have loaded it while this one waited
+            return matrix != null ? matrix : reload();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private static PriceComparisonDto compare(PriceMatrix matrix, List<BasketItemDto> basket) {
+        int chains = matrix.chainCount();
+        long[] chainTotals = new long[chains];
+        boolean[] complete = new boolean[chains];
+        Arrays.fill(complete, true);
+        long splitTotal = 0;
+        List<ItemPriceDto> items = new ArrayList<>(basket.size());
+        List<String> unmatched = new ArrayList<>();
+
+        for (BasketItemDto item : basket) {
+            int row = matrix.row(item.getProductName());
+            int cheapest = row < 0 ? -1 : matrix.cheapestChain(row);
+            if (cheapest < 0) {
+                unmatched.add(item.getProductName());
+                continue;
+            }
+            int quantity = item.getQuantity() == null || item.getQuantity() < 1 ? 1 : item.getQuantity();
+            Map<String, Double> pricesByChain = new LinkedHashMap<>();
+            for (int chain = 0; chain < chains; chain++) {
+                long price = matrix.pricePaise(row, chain);
+                if (price == PriceMatrix.NO_PRICE) {
+                    complete[chain] = false;
+                } else {
+                    chainTotals[chain] += price * quantity;
+                    pricesByChain.put(matrix.chainName(chain), Money.toRupees(price));
+                }
+            }
+            long cheapestPrice = matrix.pricePaise(row, cheapest);
+            splitTotal += cheapestPrice * quantity;
+            items.add(ItemPriceDto.builder()
+                    .productName(matrix.productName(row))
+                    .quantity(quantity)
+                    .cheapestChain(matrix.chainName(cheapest))
+                    .unitPrice(Money.toRupees(cheapestPrice))
+                    .totalPrice(Money.toRupees(cheapestPrice * quantity))
+                    .pricesByChain(pricesByChain)
+                    .build());
+        }
+
+        Map<String, Double> totals = new LinkedHashMap<>();
+        int cheapestChain = -1;
+        if (!items.isEmpty()) {
+            for (int chain = 0; chain < chains; chain++) {
+                if (!complete[chain]) {
+                    continue;
+                }
+                totals.put(matrix.chainName(chain), Money.toRupees(chainTotals[chain]));
+                if (cheapestChain == -1 || chainTotals[chain] < chainTotals[cheapestChain]) {
+                    cheapestChain = chain;
+                }
+            }
+        }
+        return PriceComparisonDto.builder()
+                .items(items)
+                .unmatched(unmatched)
+                .chainTotals(totals)
+                .cheapestChain(cheapestChain < 0 ? null : matrix.chainName(cheapestChain))
+                .cheapestChainTotal(cheapestChain < 0 ? null : Money.toRupees(chainTotals[cheapestChain]))
+                .splitBasketTotal(Money.toRupees(splitTotal))
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.fintech.backend.service;
+
+import com.fintech.backend.utils.catalogue.CatalogueChangedEvent;
+import com.fintech.backend.utils.catalogue.PriceSeries;
+import com.fintech.backend.utils.catalogue.PricesRecordedEvent;
+import com.fintech.backend.utils.metrics.MetricsRecorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Full price history per product, as one {@link PriceSeries} per chain keyed by chain name.
+ *
+ * <p>A product is evicted once new prices for it are recorded, and everything is dropped when the catalogue sync
+ * changes prices. A generation counter stops a read that started before an eviction from putting its older history
+ * back. Entries also expire after {@code finwise.prices.history-ttl}, which bounds how long prices recorded on
+ * another node can go unseen.</p>
+ */
+@Service
+public class PriceHistoryCache {
+    private final MetricsRecorder metrics;
+    private final Duration ttl;
+    private final Map<Long, Entry> histories = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public PriceHistoryCache(MetricsRecorder metrics, @Value("${finwise.prices.history-ttl:30m}") Duration ttl) {
+        this.metrics = metrics;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Returns the cached history of the product, loading and caching it with {@code loader} when absent or expired.
+     */
+    public Map<String, PriceSeries> get(Long productId, Supplier<Map<String, PriceSeries>> loader) {
+        Entry entry = histories.get(productId);
+        long now = System.nanoTime();
+        if (entry != null && now - entry.loadedAt() < ttl.toNanos()) {
+            metrics.cacheRequest("price-history", true);
+            return entry.seriesByChain();
+        }
+        metrics.cacheRequest("price-history", false);
+        long loadGeneration = generation.get();
+        Map<String, PriceSeries> seriesByChain = loader.get();
+        histories.compute(productId, (id, current) ->
+                generation.get() != loadGeneration ? current : new Entry(seriesByChain, now));
+        return seriesByChain;
+    }
+
+    @EventListener
+    public void onPricesRecorded(PricesRecordedEvent event) {
+        generation.incrementAndGet();
+        event.productIds().forEach(histories::remove);
+    }
+
+    @EventListener(CatalogueChangedEvent.class)
+    public void clear() {
+        generation.incrementAndGet();
+        histories.clear();
+    }
+
+    private record Entry(Map<String, PriceSeries> seriesByChain, long loadedAt) {
+    }
+}
@@ -0,0 +1,196 @@
+package com.fintech.backend.service;
+
+import com.fintech.backend.config.Exceptions.ProductNotFoundException;
+import com.fintech.backend.dto.PriceHistoryDto;
+import com.fintech.backend.dto.PriceIngestResultDto;
+import com.fintech.backend.dto.PriceObservationDto;
+import com.fintech.backend.dto.PricePointDto;
+import com.fintech.backend.models.Chian;
+import com.fintech.backend.models.ProductPrices;
+import com.fintech.backend.models.Products;
+import com.fintech.backend.repository.ProductPricesRepository;
+import com.fintech.backend.utils.catalogue.PriceSeries;
+import com.fintech.backend.utils.catalogue.PricesRecordedEvent;
+import com.fintech.backend.utils.metrics.MetricsRecorder;
+import com.fintech.backend.utils.money.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Records price observations and serves the price history of a product.
+ *
+ * <p>Price records are append-only: an observation is stored only when it differs from the price in effect at that
+ * chain on its date, so repeating a price costs nothing and the table holds one row per change. Histories are read
+ * with one range scan per product and kept in {@link PriceHistoryCache} as delta-encoded {@link PriceSeries}.</p>
+ */
+@Slf4j
+@Service
+public class PriceHistoryService {
+    private final ProductPricesRepository productPricesRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final PriceHistoryCache priceHistoryCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MetricsRecorder metrics;
+
+    public PriceHistoryService(ProductPricesRepository productPricesRepository,
+                               ReferenceDataCache referenceDataCache,
+                               PriceHistoryCache priceHistoryCache,
+                               ApplicationEventPublisher eventPublisher,
+                               MetricsRecorder metrics) {
+        this.productPricesRepository = productPricesRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.priceHistoryCache = priceHistoryCache;
+        this.eventPublisher = eventPublisher;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Appends the observations that change a price. Products and chains are matched by name, ignoring case, and an
+     * observation without a date counts as today's. Observations naming an unknown product or chain, or without a
+     * valid price, are rejected and reported by name. A {@link PricesRecordedEvent} follows the commit when any
+     * price was appended.
+     */
+    @Transactional
+    public PriceIngestResultDto recordPrices(List<PriceObservationDto> observations) {
+        return metrics.time("prices.record", () -> record(observations));
+    }
+
+    private PriceIngestResultDto record(List<PriceObservationDto> observations) {
+        List<Observation> accepted = new ArrayList<>(observations.size());
+        List<String> rejected = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        for (PriceObservationDto observation : observations) {
+            String reason = null;
+            Products product = null;
+            Chian chain = null;
+            if (observation.getProductName() == null || observation.getProductName().isBlank()) {
+                reason = "missing product";
+            } else if (observation.getChain() == null || observation.getChain().isBlank()) {
+                reason = "missing chain";
+            } else if (observation.getPrice() == null || observation.getPrice() < 0) {
+                reason = "missing or negative price";
+            } else {
+                product = referenceDataCache.product(observation.getProductName()).orElse(null);
+                chain = referenceDataCache.chain(observation.getChain()).orElse(null);
+                reason = product == null ? "unknown product" : chain == null ? "unknown chain" : null;
+            }
+            if (reason != null) {
+                rejected.add(observation.getProductName() + " at " + observation.getChain() + ": " + reason);
+                continue;
+            }
+            accepted.add(new Observation(product, chain, Money.toPaise(observation.getPrice()),
+                    observation.getDate() != null ? observation.getDate() : today));
+        }
+
+        // Price in effect per product and chain by date; a later record on the same date replaces an earlier one
+        Map<PairKey, TreeMap<LocalDate, Long>> history = new HashMap<>();
+        Set<Long> productIds = new HashSet<>();
+        accepted.forEach(observation -> productIds.add(observation.product().getProductId()));
+        if (!productIds.isEmpty()) {
+            for (ProductPricesRepository.PriceHistoryView record : productPricesRepository.findHistory(productIds)) {
+                history.computeIfAbsent(new PairKey(record.getProductId(), record.getChainId()), key -> new TreeMap<>())
+                        .put(record.getDateRecorded(), record.getPricePaise());
+            }
+        }
+
+        accepted.sort(Comparator.comparing(Observation::date));
+        List<ProductPrices> appended = new ArrayList<>();
+        Set<Long> changedProducts = new HashSet<>();
+        for (Observation observation : accepted) {
+            TreeMap<LocalDate, Long> prices = history.computeIfAbsent(
+                    new PairKey(observation.product().getProductId(), observation.chain().getChainId()), key -> new TreeMap<>());
+            Map.Entry<LocalDate, Long> inEffect = prices.floorEntry(observation.date());
+            if (inEffect != null && inEffect.getValue() == observation.pricePaise()) {
+                continue;
+            }
+            prices.put(observation.date(), observation.pricePaise());
+            appended.add(new ProductPrices(observation.product(), observation.chain(), observation.pricePaise(), observation.date()));
+            changedProducts.add(observation.product().getProductId());
+        }
+        productPricesRepository.saveAll(appended);
+        if (!appended.isEmpty()) {
+            publishAfterCommit(new PricesRecordedEvent(Set.copyOf(changedProducts)));
+        }
+        log.info("Recorded prices: {} received, {} appended, {} rejected", observations.size(), appended.size(), rejected.size());
+        return PriceIngestResultDto.builder()
+                .received(observations.size())
+                .appended(appended.size())
+                .unchanged(accepted.size() - appended.size())
+                .rejected(rejected)
+                .build();
+    }
+
+    /**
+     * Returns the prices of a product at every chain that recorded one, from the price in effect on {@code from}
+     * through every change up to {@code to}.
+     */
+    public PriceHistoryDto getPriceHistory(String productName, LocalDate from, LocalDate to) {
+        Products product = referenceDataCache.product(productName)
+                .orElseThrow(() -> new ProductNotFoundException("No product named " + productName));
+        Map<String, PriceSeries> seriesByChain = priceHistoryCache.get(product.getProductId(),
+                () -> metrics.time("prices.history.load", () -> loadHistory(product.getProductId())));
+
+        Map<String, List<PricePointDto>> pricesByChain = new LinkedHashMap<>();
+        seriesByChain.forEach((chain, series) -> {
+            List<PricePointDto> points = new ArrayList<>();
+            series.forEachBetween(from, to, (date, pricePaise) -> points.add(PricePointDto.builder()
+                    .date(date)
+                    .price(Money.toRupees(pricePaise))
+                    .build()));
+            if (!points.isEmpty()) {
+                pricesByChain.put(chain, points);
+            }
+        });
+        return PriceHistoryDto.builder()
+                .productName(product.getProductName())
+                .from(from)
+                .to(to)
+                .pricesByChain(pricesByChain)
+                .build();
+    }
+
+    private Map<String, PriceSeries> loadHistory(Long productId) {
+        Map<String, PriceSeries.Builder> builders = new LinkedHashMap<>();
+        for (ProductPricesRepository.PriceHistoryView record : productPricesRepository.findHistory(List.of(productId))) {
+            builders.computeIfAbsent(record.getChainName(), chain -> PriceSeries.builder())
+                    .add(record.getDateRecorded(), record.getPricePaise());
+        }
+        Map<String, PriceSeries> seriesByChain = new LinkedHashMap<>();
+        builders.forEach((chain, builder) -> seriesByChain.put(chain, builder.build()));
+        return seriesByChain;
+    }
+
+    private void publishAfterCommit(PricesRecordedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventPublisher.publishEvent(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventPublisher.publishEvent(event);
+            }
+        });
+    }
+
+    private record Observation(Products product, Chian chain, long pricePaise, LocalDate date) {
+    }
+
+    private record PairKey(long productId, long chainId) {
+    }
+}
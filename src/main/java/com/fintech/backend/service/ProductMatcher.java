@@ -0,0 +1,166 @@
+package com.fintech.backend.service;
+
+import com.fintech.backend.models.Products;
+import com.fintech.backend.repository.ProductsRepository;
+import com.fintech.backend.utils.catalogue.CatalogueChangedEvent;
+import com.fintech.backend.utils.catalogue.ProductNameIndex;
+import com.fintech.backend.utils.metrics.MetricsRecorder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Resolves receipt item names to catalogue products, so noisy spellings of a known product do not each create a
+ * product of their own.
+ *
+ * <p>Names and "brand name" texts of all products are held in a {@link ProductNameIndex} built when the application
+ * is ready and rebuilt when the catalogue sync changes it. Products created from receipts since then are added one
+ * at a time to a small delta index, copying only the posting lists they touch, and folded into a full rebuild once
+ * it reaches {@code finwise.products.match-delta-limit} entries. A name neither index matches above
+ * {@code finwise.products.match-threshold} falls back to an exact, case-insensitive lookup, which also covers
+ * products added by other nodes, before a new product is created.</p>
+ */
+@Slf4j
+@Service
+public class ProductMatcher {
+    private final ProductsRepository productsRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final MetricsRecorder metrics;
+    private final double threshold;
+    private final int deltaLimit;
+    // Guards deltaProducts and the delta swap; a lock rather than a monitor, as callers run on virtual threads
+    private final ReentrantLock deltaLock = new ReentrantLock();
+    private final List<Products> deltaProducts = new ArrayList<>();
+    private final AtomicBoolean reloading = new AtomicBoolean();
+    private volatile ProductNameIndex index = ProductNameIndex.builder().build();
+    private volatile ProductNameIndex delta = ProductNameIndex.builder().build();
+
+    public ProductMatcher(ProductsRepository productsRepository,
+                          ReferenceDataCache referenceDataCache,
+                          @Value("${finwise.products.match-threshold:0.4}") double threshold,
+                          @Value("${finwise.products.match-delta-limit:1000}") int deltaLimit,
+                          MetricsRecorder metrics) {
+        this.productsRepository = productsRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.threshold = threshold;
+        this.deltaLimit = deltaLimit;
+        this.metrics = metrics;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    @EventListener(CatalogueChangedEvent.class)
+    public void onCatalogueChanged() {
+        reload();
+    }
+
+    /**
+     * Rebuilds the index from every product in the database and empties the delta.
+     */
+    public void reload() {
+        long[] maxProductId = {0};
+        ProductNameIndex loaded = metrics.time("products.index.load", () -> {
+            ProductNameIndex.Builder builder = ProductNameIndex.builder();
+            for (ProductsRepository.ProductNameView product : productsRepository.findAllNames()) {
+                builder.add(product.getProductId(), product.getProductName());
+                if (product.getBrand() != null) {
+                    builder.add(product.getProductId(), product.getBrand() + " " + product.getProductName());
+                }
+                maxProductId[0] = Math.max(maxProductId[0], product.getProductId());
+            }
+            return builder.build();
+        });
+        deltaLock.lock();
+        try {
+            index = loaded;
+            // Keep products committed while the index was being read
+            deltaProducts.removeIf(product -> product.getProductId() <= maxProductId[0]);
+            delta = buildDelta();
+        } finally {
+            deltaLock.unlock();
+        }
+        log.info("Product name index loaded with {} entries", loaded.size());
+    }
+
+    /**
+     * Returns the catalogue product a receipt item name refers to, creating a {@code pcs} product for names that
+     * match nothing.
+     */
+    public Products resolve(String productName) {
+        ProductNameIndex.Match match = bestMatch(productName);
+        if (match != null) {
+            metrics.increment("products.match", "result", "fuzzy");
+            return productsRepository.getReferenceById(match.productId());
+        }
+        Products product = referenceDataCache.product(productName).orElse(null);
+        if (product != null) {
+            metrics.increment("products.match", "result", "exact");
+        } else {
+            metrics.increment("products.match", "result", "created");
+            product = productsRepository.save(new Products(productName, "pcs"));
+        }
+        addAfterCommit(product);
+        return product;
+    }
+
+    ProductNameIndex.Match bestMatch(String productName) {
+        ProductNameIndex.Match fromIndex = index.bestMatch(productName, threshold);
+        ProductNameIndex.Match fromDelta = delta.bestMatch(productName, threshold);
+        if (fromDelta == null) {
+            return fromIndex;
+        }
+        return fromIndex == null || fromDelta.similarity() > fromIndex.similarity() ? fromDelta : fromIndex;
+    }
+
+    // A product created in a transaction that rolls back must not become matchable
+    private void addAfterCommit(Products product) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            addToDelta(product);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                addToDelta(product);
+            }
+        });
+    }
+
+    private void addToDelta(Products product) {
+        deltaLock.lock();
+        try {
+            deltaProducts.add(product);
+            delta = delta.with(product.getProductId(), product.getProductName());
+            if (deltaProducts.size() < deltaLimit || !reloading.compareAndSet(false, true)) {
+                return;
+            }
+        } finally {
+            deltaLock.unlock();
+        }
+        Thread.ofVirtual().name("product-index-reload").start(() -> {
+            try {
+                reload();
+            } finally {
+                reloading.set(false);
+            }
+        });
+    }
+
+    private ProductNameIndex buildDelta() {
+        ProductNameIndex.Builder builder = ProductNameIndex.builder();
+        deltaProducts.forEach(added -> builder.add(added.getProductId(), added.getProductName()));
+        return builder.build();
+    }
+}
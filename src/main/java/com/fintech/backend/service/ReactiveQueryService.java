@@ -0,0 +1,97 @@
+package com.fintech.backend.service;
+
+import com.fintech.backend.dto.TransactionDetailsDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Reactive read path over the blocking JPA services.
+ *
+ * <p>Every repository call runs on Reactor's bounded-elastic scheduler, so the servlet thread that
+ * accepted the request is released as soon as the publisher is returned. Transaction history is
+ * read one page at a time, keyed by the last transaction of the previous page, and the next page
+ * is only queried once the client has consumed the previous one.</p>
+ */
+@Slf4j
+@Service
+public class ReactiveQueryService {
+    static final int TRANSACTION_PAGE_SIZE = 100;
+
+    private final TransactionsService transactionsService;
+    private final GoalsService goalsService;
+
+    public ReactiveQueryService(TransactionsService transactionsService, GoalsService goalsService) {
+        this.transactionsService = transactionsService;
+        this.goalsService = goalsService;
+    }
+
+    /**
+     * Streams a user's transactions, newest first, fetching {@value #TRANSACTION_PAGE_SIZE} rows
+     * per query as the subscriber requests them.
+     *
+     * @param userId the user's ID
+     * @return a {@link Flux} of {@link TransactionDetailsDto}
+     */
+    public Flux<TransactionDetailsDto> streamTransactions(Long userId) {
+        return blocking(() -> transactionsService.getTransactionDetailsPage(userId, null, null, TRANSACTION_PAGE_SIZE))
+                .expand(page -> page.size() < TRANSACTION_PAGE_SIZE
+                        ? Mono.empty()
+                        : blocking(() -> transactionsService.getTransactionDetailsPage(userId,
+                                LocalDate.parse(page.getLast().getDate()), page.getLast().getTransactionId(),
+                                TRANSACTION_PAGE_SIZE)))
+                .concatMapIterable(page -> page, 1);
+    }
+
+    /**
+     * Loads the dashboard figures concurrently: balance, monthly income and spending, and the last
+     * week's summary.
+     *
+     * @param userId the user's ID
+     * @return a {@link Mono} emitting one map keyed by section
+     */
+    public Mono<Map<String, Object>> getDashboard(Long userId) {
+        return Mono.zip(
+                blocking(() -> transactionsService.getBalance(userId)),
+                blocking(() -> transactionsService.getIncomePerMonth(userId)),
+                blocking(() -> transactionsService.getSpendingPerMonth(userId)),
+                blocking(() -> transactionsService.lastWeekDetails(userId))
+        ).map(sections -> {
+            Map<String, Object> dashboard = new HashMap<>();
+            dashboard.put("balance", sections.getT1());
+            dashboard.put("income", sections.getT2());
+            dashboard.put("spending", sections.getT3());
+            dashboard.put("lastWeek", sections.getT4());
+            return dashboard;
+        });
+    }
+
+    /**
+     * Loads the overall saving progress and the current category goals concurrently.
+     *
+     * @param userId the user's ID
+     * @return a {@link Mono} emitting one map with {@code summary} and {@code goals}
+     */
+    public Mono<Map<String, Object>> getGoalsSummary(Long userId) {
+        return Mono.zip(
+                blocking(() -> goalsService.getOverAllSavingPercentage(userId)),
+                blocking(() -> goalsService.getListOfCurrentGoalsByCategory(userId))
+        ).map(sections -> {
+            Map<String, Object> summary = new HashMap<>();
+            summary.put("summary", sections.getT1());
+            summary.put("goals", sections.getT2());
+            return summary;
+        });
+    }
+
+    private <T> Mono<T> blocking(Callable<T> query) {
+        return Mono.fromCallable(query).subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -3,10 +3,16 @@ package com.fintech.backend.service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fintech.backend.dto.TransactionDetailsDto;
+import com.fintech.backend.utils.enums.CategoryType;
+import com.fintech.backend.utils.metrics.MetricsRecorder;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.client.ResponseEntity;
 import org.springframework.ai.chat.messages.SystemMessage;
 import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.content.Media;
 import org.springframework.ai.google.genai.GoogleGenAiChatOptions;
@@ -17,7 +23,9 @@ import org.springframework.util.InvalidMimeTypeException;
 import org.springframework.util.MimeType;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 // 1. Define the Java POJOs for Structured Output
 // (These remain unchanged)
@@ -54,17 +62,27 @@ record TransactionData(
 @Slf4j
 @Service
 public class ReceiptAnalyzerService {
+    private static final String ALLOWED_CATEGORIES = Arrays.stream(CategoryType.values())
+            .filter(type -> type != CategoryType.OTHER)
+            .map(type -> "\"" + type.name() + "\"")
+            .collect(Collectors.joining(", "));
 
     private final ChatClient chatClient;
     private final ObjectMapper objectMapper;
     private final TransactionsService transactionsService;
+    private final CategoryRegistry categoryRegistry;
+    private final MetricsRecorder metrics;
 
     public ReceiptAnalyzerService(ChatClient.Builder chatClientBuilder,
                                   ObjectMapper objectMapper,
-                                  TransactionsService transactionsService) {
+                                  TransactionsService transactionsService,
+                                  CategoryRegistry categoryRegistry,
+                                  MetricsRecorder metrics) {
         this.chatClient = chatClientBuilder.build();
         this.objectMapper = objectMapper;
         this.transactionsService = transactionsService;
+        this.categoryRegistry = categoryRegistry;
+        this.metrics = metrics;
     }
 
     /**
@@ -98,12 +116,12 @@ public class ReceiptAnalyzerService {
                 
                 Be Sure that title doesn't exceed more than 2 words in length
                 
-                Be sure that category can only be ["FOOD","TRANSPORT","MEDICINE", "GROCERIES", "RENT", "INSURANCE", "SUBSCRIPTIONS", "ENTERTAINMENT"]
+                Be sure that category can only be [%s]
                 and any transactions the do fall in above mentioned categories should be labeled as "OTHER".
                 
                 Be sure to accurately determine the productName, totalPrice, quantity, and pricePerItem for
                 each item in the 'transactionItems' list. Infer 'isExpense' as true.
-                """;
+                """.formatted(ALLOWED_CATEGORIES);
         SystemMessage systemMessage = new SystemMessage(systemPrompt);
 
 
@@ -119,19 +137,45 @@ public class ReceiptAnalyzerService {
 
         // 3. Execute the Structured Call using the POJO
         // The Prompt must include both SystemMessage and UserMessage.
-        TransactionData transactionData = chatClient.prompt(new Prompt(List.of(systemMessage, userMessage)))
-                // Use .options() to specify the output model and schema details.
-                .options(GoogleGenAiChatOptions.builder()
-                        .model("gemini-2.5-flash") // Using a known correct model name
-                        .responseMimeType("application/json") // Ensure the model returns JSON
-                        .build()) // Map the response JSON directly to the Java POJO
-                .call()
-                .entity(TransactionData.class); // Map the response JSON directly to the Java POJO
+        Timer.Sample sample = metrics.start();
+        String outcome = "error";
+        TransactionData transactionData;
+        try {
+            ResponseEntity<ChatResponse, TransactionData> responseEntity = chatClient.prompt(new Prompt(List.of(systemMessage, userMessage)))
+                    // Use .options() to specify the output model and schema details.
+                    .options(GoogleGenAiChatOptions.builder()
+                            .model("gemini-2.5-flash") // Using a known correct model name
+                            .responseMimeType("application/json") // Ensure the model returns JSON
+                            .build()) // Map the response JSON directly to the Java POJO
+                    .call()
+                    .responseEntity(TransactionData.class); // Map the response JSON directly to the Java POJO
+            transactionData = responseEntity.entity();
+            recordTokenUsage(responseEntity.response());
+            outcome = "success";
+        } finally {
+            metrics.stop(sample, "receipt.analysis", "outcome", outcome);
+        }
 
         // 4. Convert the POJO back to a generic JsonNode for the required return type
         return objectMapper.valueToTree(transactionData);
     }
 
+    private void recordTokenUsage(ChatResponse response) {
+        if (response == null || response.getMetadata() == null) {
+            return;
+        }
+        Usage usage = response.getMetadata().getUsage();
+        if (usage == null) {
+            return;
+        }
+        if (usage.getPromptTokens() != null) {
+            metrics.record("receipt.tokens", usage.getPromptTokens(), "type", "prompt");
+        }
+        if (usage.getCompletionTokens() != null) {
+            metrics.record("receipt.tokens", usage.getCompletionTokens(), "type", "completion");
+        }
+    }
+
     public JsonNode getResponse(MultipartFile file,Long userId){
         try {
             byte[] fileData = file.getBytes();
@@ -145,6 +189,8 @@ public class ReceiptAnalyzerService {
             JsonNode fullResponse = generateContent(fileData,mineType);
             ObjectMapper mapper = new ObjectMapper(); // Navigate to the model's text part
             TransactionDetailsDto transactionDetailsDto = mapper.readValue(fullResponse.toString(), TransactionDetailsDto.class);
+            // The model does not always keep to the listed categories; map its label to the one it stands for
+            transactionDetailsDto.setCategory(categoryRegistry.resolve(transactionDetailsDto.getCategory()).getCategory());
             log.info("Dto: {}", transactionDetailsDto);
             Object response = transactionsService.createNewTransaction(userId, transactionDetailsDto);
             return mapper.valueToTree(response);
@@ -0,0 +1,104 @@
+package com.fintech.backend.service;
+
+import com.fintech.backend.models.Chian;
+import com.fintech.backend.models.Products;
+import com.fintech.backend.repository.ChainRepository;
+import com.fintech.backend.repository.ProductsRepository;
+import com.fintech.backend.utils.catalogue.CatalogueChangedEvent;
+import com.fintech.backend.utils.metrics.MetricsRecorder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Chains and products by name, for the lookups made on every price ingestion and receipt item. Categories are a
+ * fixed set served by {@link CategoryRegistry}.
+ *
+ * <p>These tables change only when the catalogue is synced or a receipt brings in a new product, so entries are
+ * kept for {@code finwise.reference.cache-ttl} and handed out detached; they are only ever used as references on
+ * new rows. Names that match no chain are cached too, while products are cached once found only, so a product
+ * created from a receipt is seen by the next lookup. Everything is dropped when the catalogue sync reports a
+ * change or {@link #refresh()} is called. A generation counter stops a lookup that started before a refresh from
+ * putting its older result back.</p>
+ */
+@Slf4j
+@Service
+public class ReferenceDataCache {
+    private final ChainRepository chainRepository;
+    private final ProductsRepository productsRepository;
+    private final MetricsRecorder metrics;
+    private final Duration ttl;
+    private final Map<String, Entry<Chian>> chains = new ConcurrentHashMap<>();
+    private final Map<String, Entry<Products>> products = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public ReferenceDataCache(ChainRepository chainRepository,
+                              ProductsRepository productsRepository,
+                              @Value("${finwise.reference.cache-ttl:1h}") Duration ttl,
+                              MetricsRecorder metrics) {
+        this.chainRepository = chainRepository;
+        this.productsRepository = productsRepository;
+        this.ttl = ttl;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the chain with the given name, ignoring case.
+     */
+    public Optional<Chian> chain(String name) {
+        return Optional.ofNullable(lookup(chains, "chains", name.trim().toLowerCase(Locale.ROOT),
+                key -> chainRepository.findFirstByChainNameIgnoreCaseOrderByChainIdAsc(key).orElse(null), true));
+    }
+
+    /**
+     * Returns the first product with the given name, ignoring case.
+     */
+    public Optional<Products> product(String name) {
+        return Optional.ofNullable(lookup(products, "products", name.trim().toLowerCase(Locale.ROOT),
+                key -> productsRepository.findFirstByProductNameIgnoreCaseOrderByProductIdAsc(key).orElse(null), false));
+    }
+
+    @EventListener(CatalogueChangedEvent.class)
+    public void onCatalogueChanged() {
+        refresh();
+    }
+
+    /**
+     * Drops every cached entry, for when chains or products were changed outside the catalogue sync.
+     */
+    public void refresh() {
+        generation.incrementAndGet();
+        chains.clear();
+        products.clear();
+        log.info("Reference data cache refreshed");
+    }
+
+    private <T> T lookup(Map<String, Entry<T>> cache, String cacheName, String key, Function<String, T> loader,
+                         boolean cacheAbsent) {
+        Entry<T> entry = cache.get(key);
+        long now = System.nanoTime();
+        if (entry != null && now - entry.loadedAt() < ttl.toNanos()) {
+            metrics.cacheRequest(cacheName, true);
+            return entry.value();
+        }
+        metrics.cacheRequest(cacheName, false);
+        long loadGeneration = generation.get();
+        T value = loader.apply(key);
+        if (value != null || cacheAbsent) {
+            cache.compute(key, (k, current) -> generation.get() != loadGeneration ? current : new Entry<>(value, now));
+        }
+        return value;
+    }
+
+    private record Entry<T>(T value, long loadedAt) {
+    }
+}
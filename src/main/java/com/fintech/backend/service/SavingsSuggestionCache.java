@@ -0,0 +1,95 @@
+package com.fintech.backend.service;
+
+import com.fintech.backend.dto.SavingsSuggestionDto;
+import com.fintech.backend.utils.catalogue.CatalogueChangedEvent;
+import com.fintech.backend.utils.catalogue.PricesRecordedEvent;
+import com.fintech.backend.utils.metrics.MetricsRecorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Savings suggestions per user and month.
+ *
+ * <p>A user's months are evicted together once a transaction of theirs commits, and everything is dropped when the
+ * catalogue sync or a price ingestion changes prices. {@link LoadGenerations} stops a read that started before an
+ * eviction from putting its older result back. Entries also expire after {@code finwise.prices.savings-ttl}, which
+ * bounds how long a write on another node can go unseen.</p>
+ */
+@Service
+public class SavingsSuggestionCache {
+    private final MetricsRecorder metrics;
+    private final Duration ttl;
+    private final Map<Long, Map<YearMonth, Entry>> suggestions = new ConcurrentHashMap<>();
+    private final LoadGenerations<Long> generations = new LoadGenerations<>();
+
+    public SavingsSuggestionCache(MetricsRecorder metrics, @Value("${finwise.prices.savings-ttl:10m}") Duration ttl) {
+        this.metrics = metrics;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Returns the cached suggestion of the user for the month, building and caching it with {@code loader} when
+     * absent or expired.
+     */
+    public SavingsSuggestionDto get(Long userId, YearMonth month, Supplier<SavingsSuggestionDto> loader) {
+        Map<YearMonth, Entry> months = suggestions.get(userId);
+        Entry entry = months == null ? null : months.get(month);
+        long now = System.nanoTime();
+        if (entry != null && now - entry.loadedAt() < ttl.toNanos()) {
+            metrics.cacheRequest("savings-suggestions", true);
+            return entry.suggestion();
+        }
+        metrics.cacheRequest("savings-suggestions", false);
+        long generation = generations.begin(userId);
+        SavingsSuggestionDto suggestion;
+        try {
+            suggestion = loader.get();
+        } catch (RuntimeException e) {
+            generations.finish(userId, generation, () -> { });
+            throw e;
+        }
+        generations.finish(userId, generation, () -> suggestions
+                .computeIfAbsent(userId, id -> new ConcurrentHashMap<>())
+                .put(month, new Entry(suggestion, now)));
+        return suggestion;
+    }
+
+    /**
+     * Evicts all months of the user after the current transaction commits, or immediately outside a transaction.
+     */
+    public void evictAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userId);
+            }
+        });
+    }
+
+    public void evict(Long userId) {
+        generations.invalidate(userId);
+        suggestions.remove(userId);
+    }
+
+    @EventListener({CatalogueChangedEvent.class, PricesRecordedEvent.class})
+    public void clear() {
+        generations.invalidateAll();
+        suggestions.clear();
+    }
+
+    private record Entry(SavingsSuggestionDto suggestion, long loadedAt) {
+    }
+}
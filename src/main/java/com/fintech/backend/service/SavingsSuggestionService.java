@@ -0,0 +1,140 @@
+package com.fintech.backend.service;
+
+import com.fintech.backend.dto.ItemSavingDto;
+import com.fintech.backend.dto.SavingsSuggestionDto;
+import com.fintech.backend.models.Users;
+import com.fintech.backend.repository.TransactionItemsRepository;
+import com.fintech.backend.repository.UsersRepository;
+import com.fintech.backend.utils.mappers.GenericDtoMapper;
+import com.fintech.backend.utils.mappers.GenericResponseFactory;
+import com.fintech.backend.utils.metrics.MetricsRecorder;
+import com.fintech.backend.utils.money.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Slf4j
+@Service
+public class SavingsSuggestionService extends BaseService {
+    private final TransactionItemsRepository transactionItemsRepository;
+    private final SavingsSuggestionCache savingsSuggestionCache;
+    private final MetricsRecorder metrics;
+
+    public SavingsSuggestionService(GenericDtoMapper mapper,
+                                    GenericResponseFactory responseFactory,
+                                    UsersRepository usersRepository,
+                                    TransactionItemsRepository transactionItemsRepository,
+                                    SavingsSuggestionCache savingsSuggestionCache,
+                                    MetricsRecorder metrics) {
+        super(mapper, responseFactory, usersRepository);
+        this.transactionItemsRepository = transactionItemsRepository;
+        this.savingsSuggestionCache = savingsSuggestionCache;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Works out how much the user would have saved in a month by buying each receipt item at the chain that
+     * currently sells it cheapest, and at the single chain that would have been cheapest for all of them.
+     *
+     * <p>One query joins the month's items with the latest chain prices; results are served from
+     * {@link SavingsSuggestionCache} until the user's next transaction or the next catalogue change.</p>
+     *
+     * @param userId the ID of the user
+     * @param month  the calendar month of the transactions
+     * @return the spend on priced items, the cheapest possible spend and the items sorted by savings
+     */
+    public SavingsSuggestionDto getSavingsSuggestions(Long userId, YearMonth month) {
+        Users user = getUserById(userId);
+        return savingsSuggestionCache.get(userId, month, () -> metrics.time("prices.savings",
+                () -> buildSuggestions(user, month)));
+    }
+
+    private SavingsSuggestionDto buildSuggestions(Users user, YearMonth month) {
+        List<TransactionItemsRepository.ItemChainPriceView> rows = transactionItemsRepository
+                .findItemPricesAcrossChains(user, month.atDay(1), month.plusMonths(1).atDay(1));
+
+        Map<Long, ProductSavings> products = new LinkedHashMap<>();
+        Map<String, long[]> chainTotals = new TreeMap<>();
+        for (TransactionItemsRepository.ItemChainPriceView row : rows) {
+            ProductSavings product = products.computeIfAbsent(row.getProductId(),
+                    id -> new ProductSavings(row.getProductName(), row.getQuantity(), row.getPaidPaise()));
+            if (product.cheapestChain == null || row.getPricePaise() < product.cheapestPricePaise) {
+                product.cheapestChain = row.getChainName();
+                product.cheapestPricePaise = row.getPricePaise();
+            }
+            // {total at the chain, number of products it prices}
+            long[] chainTotal = chainTotals.computeIfAbsent(row.getChainName(), chain -> new long[2]);
+            chainTotal[0] += row.getPricePaise() * row.getQuantity();
+            chainTotal[1]++;
+        }
+
+        long spentPaise = 0;
+        long cheapestTotalPaise = 0;
+        long savingsPaise = 0;
+        List<ItemSavingDto> items = new ArrayList<>(products.size());
+        for (ProductSavings product : products.values()) {
+            long cheapestPaise = product.cheapestPricePaise * product.quantity;
+            long productSavingsPaise = Math.max(0, product.paidPaise - cheapestPaise);
+            spentPaise += product.paidPaise;
+            cheapestTotalPaise += Math.min(cheapestPaise, product.paidPaise);
+            savingsPaise += productSavingsPaise;
+            items.add(ItemSavingDto.builder()
+                    .productName(product.name)
+                    .quantity(product.quantity)
+                    .paid(Money.toRupees(product.paidPaise))
+                    .cheapestChain(product.cheapestChain)
+                    .cheapestUnitPrice(Money.toRupees(product.cheapestPricePaise))
+                    .cheapestTotal(Money.toRupees(cheapestPaise))
+                    .savings(Money.toRupees(productSavingsPaise))
+                    .build());
+        }
+        items.sort(Comparator.comparing(ItemSavingDto::getSavings).reversed());
+
+        Map<String, Double> totals = new LinkedHashMap<>();
+        String bestSingleChain = null;
+        long bestSingleChainPaise = 0;
+        for (Map.Entry<String, long[]> chain : chainTotals.entrySet()) {
+            if (chain.getValue()[1] < products.size()) {
+                continue;
+            }
+            totals.put(chain.getKey(), Money.toRupees(chain.getValue()[0]));
+            if (bestSingleChain == null || chain.getValue()[0] < bestSingleChainPaise) {
+                bestSingleChain = chain.getKey();
+                bestSingleChainPaise = chain.getValue()[0];
+            }
+        }
+
+        return SavingsSuggestionDto.builder()
+                .month(month.toString())
+                .spent(Money.toRupees(spentPaise))
+                .cheapestTotal(Money.toRupees(cheapestTotalPaise))
+                .potentialSavings(Money.toRupees(savingsPaise))
+                .chainTotals(totals)
+                .bestSingleChain(bestSingleChain)
+                .bestSingleChainSavings(bestSingleChain == null ? null
+                        : Money.toRupees(Math.max(0, spentPaise - bestSingleChainPaise)))
+                .items(items)
+                .build();
+    }
+
+    private static final class ProductSavings {
+        private final String name;
+        private final long quantity;
+        private final long paidPaise;
+        private String cheapestChain;
+        private long cheapestPricePaise;
+
+        private ProductSavings(String name, long quantity, long paidPaise) {
+            this.name = name;
+            this.quantity = quantity;
+            this.paidPaise = paidPaise;
+        }
+    }
+}
@@ -1,17 +1,20 @@
 package com.fintech.backend.service;
 
-import com.fintech.backend.models.SavingGoals;
 import com.fintech.backend.utils.enums.Status;
-import com.fintech.backend.models.Users;
 import com.fintech.backend.repository.SavingGoalsRepository;
 import com.fintech.backend.repository.UsersRepository;
-import jakarta.transaction.Transactional;
+import com.fintech.backend.utils.jobs.PartitionStep;
+import com.fintech.backend.utils.jobs.PartitionedJobRunner;
+import com.fintech.backend.utils.metrics.MetricsRecorder;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
@@ -19,63 +22,91 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 public class Scheduler {
+    public static final String CREATE_MONTHLY_GOALS_JOB = "create-monthly-saving-goals";
+    public static final String UPDATE_EXPIRED_GOALS_JOB = "update-expired-saving-goals";
+    private static final int ROLLOVER_PAGE_SIZE = 500;
+
     private final GoalsService goalsService;
     private final UsersRepository usersRepository;
     private final SavingGoalsRepository savingGoalsRepository;
+    private final PartitionedJobRunner jobRunner;
+    private final ActiveGoalCategoryLookup activeGoalCategoryLookup;
+    private final GoalProgressCache goalProgressCache;
+    private final GoalHistoryCache goalHistoryCache;
+    private final MetricsRecorder metrics;
 
     /**
      * Scheduled job that runs at 00:00 on the first day of each month to create
      * a new monthly saving goal for every user.
      *
      * <p>The goal name follows the pattern "MMMM yyyy Saving Goal" and the completion
-     * date is set to one month after creation.</p>
+     * date is set to one month after creation. The user-ID space is partitioned across nodes and
+     * worker threads by {@link PartitionedJobRunner}; within a partition users are read in pages of
+     * {@value #ROLLOVER_PAGE_SIZE} IDs and each page is rolled over with one insert in its own
+     * transaction. Users that already have this month's goal are skipped, and running the job again
+     * in the same month only visits users created since the last run.</p>
      */
     @Scheduled(cron = "0 0 0 1 * ?")
     public void createMonthlySavingGoals() {
-        List<Users> userIds = usersRepository.findAll();
-        LocalDate today = LocalDate.now();
-        String goalName = today.format(DateTimeFormatter.ofPattern("MMMM yyyy")) + " Saving Goal";
-        LocalDate completionDate = today.plusMonths(1);
+        Timer.Sample sample = metrics.start();
+        try {
+            LocalDate today = LocalDate.now();
+            String goalName = today.format(DateTimeFormatter.ofPattern("MMMM yyyy")) + " Saving Goal";
+            LocalDate completionDate = today.plusMonths(1);
 
-        for (Users user : userIds) {
-            try {
-                goalsService.createSavingGoalForUser(user, goalName, completionDate);
-            } catch (Exception e) {
-                log.error("Failed to create goal for user: {}. Error: {}", user.getUserId(), e.getMessage());
-            }
+            jobRunner.run(CREATE_MONTHLY_GOALS_JOB, YearMonth.from(today).toString(), usersRepository.findMaxUserId(),
+                    (afterUserId, upToUserId) -> {
+                        List<Long> userIds = usersRepository.findUserIdsBetween(afterUserId, upToUserId,
+                                Limit.of(ROLLOVER_PAGE_SIZE));
+                        if (userIds.isEmpty()) {
+                            return PartitionStep.Chunk.done(0);
+                        }
+                        int created = goalsService.createMonthlySavingGoals(userIds, goalName, completionDate);
+                        return new PartitionStep.Chunk(created, userIds.get(userIds.size() - 1));
+                    });
+        } finally {
+            metrics.stop(sample, "scheduler.job", "job", CREATE_MONTHLY_GOALS_JOB);
         }
     }
 
+    /**
+     * Background catch-up for the monthly rollover: shortly after startup and then every
+     * {@code finwise.jobs.goal-reconciliation.interval}, creates the current month's goal for users
+     * that do not have one yet, e.g. users who signed up after the 1st or partitions left unfinished
+     * by a crashed node.
+     *
+     * <p>Runs on the scheduling thread rather than in the startup path, so restarts do not wait on it.
+     * When nothing changed since the last run it costs a couple of queries and records no run in
+     * {@code job_runs}.</p>
+     */
+    @Scheduled(initialDelayString = "${finwise.jobs.goal-reconciliation.initial-delay:30s}",
+            fixedDelayString = "${finwise.jobs.goal-reconciliation.interval:15m}")
+    public void reconcileMonthlySavingGoals() {
+        createMonthlySavingGoals();
+    }
+
     /**
      * Scheduled job that runs at 00:00 on the last day of each month to update
      * the status of saving goals whose completion date has passed.
      *
      * <p>If a goal's current balance is greater than or equal to its goal amount,
-     * the status is set to {@code COMPLETED}; otherwise, it is set to {@code ON_HOLD}.</p>
+     * the status is set to {@code COMPLETED}; otherwise, it is set to {@code ON_HOLD}.
+     * Only {@code ACTIVE} goals are considered, and all of them are updated with a single statement
+     * by whichever node claims the day's run.</p>
      */
-    @Transactional
     @Scheduled(cron = "0 0 0 L * ?")
     public void updateExpiredSavingGoals() {
-        List<SavingGoals> expiredGoals = savingGoalsRepository.findAllByCompletionDateBefore(LocalDate.now());
-
-        log.info("Starting cleanup for {} expired saving goals.", expiredGoals.size());
-
-        for (SavingGoals goal : expiredGoals) {
-            try {
-                if (goal.getGoalAmount().compareTo(goal.getCurrentBalance()) <= 0) {
-                    goal.setStatus(Status.COMPLETED);
-                    savingGoalsRepository.save(goal);
-                    log.info("Goal ID {} COMPLETED for user: {}", goal.getGoalId(), goal.getUserId());
-                } else {
-                    goal.setStatus(Status.ON_HOLD);
-                    savingGoalsRepository.save(goal);
-                    log.warn("Goal ID {} ON_HOLD (expired/unfunded) for user: {}", goal.getGoalId(), goal.getUserId());
-                }
-            } catch (Exception e) {
-                log.error("Failed to update goal status for Goal ID {}. Error: {}", goal.getGoalId(), e.getMessage(), e);
-            }
+        Timer.Sample sample = metrics.start();
+        try {
+            LocalDate today = LocalDate.now();
+            jobRunner.run(UPDATE_EXPIRED_GOALS_JOB, today.toString(), 0L,
+                    (afterKey, upToKey) -> PartitionStep.Chunk.done(savingGoalsRepository.closeExpiredGoals(today,
+                            Status.ACTIVE, Status.COMPLETED, Status.ON_HOLD)));
+            activeGoalCategoryLookup.clear();
+            goalProgressCache.clear();
+            goalHistoryCache.clear();
+        } finally {
+            metrics.stop(sample, "scheduler.job", "job", UPDATE_EXPIRED_GOALS_JOB);
         }
-
-        log.info("Finished updating expired saving goals.");
     }
 }
@@ -0,0 +1,147 @@
+package com.fintech.backend.service;
+
+import com.fintech.backend.dto.NearbyStoreDto;
+import com.fintech.backend.repository.StoresRepository;
+import com.fintech.backend.repository.StoresRepository.LocatedStoreView;
+import com.fintech.backend.utils.catalogue.CatalogueChangedEvent;
+import com.fintech.backend.utils.geo.GeoGrid;
+import com.fintech.backend.utils.metrics.MetricsRecorder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Finds the stores closest to a position, optionally within one chain.
+ *
+ * <p>Stores are held in one {@link GeoGrid} per chain plus one over all stores, built when the application is ready
+ * and rebuilt whenever the catalogue sync reports a change, so a lookup visits the few grid cells around the
+ * position instead of scanning the stores table. All grids are swapped together through a single volatile
+ * write. Rebuilds take a {@link ReentrantLock} rather than the object monitor, as they query the stores table from
+ * virtual threads, which a monitor would pin to their carrier.</p>
+ */
+@Slf4j
+@Service
+public class StoreLocatorService {
+    private final StoresRepository storesRepository;
+    private final MetricsRecorder metrics;
+    private final double cellKm;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Locator locator;
+
+    public StoreLocatorService(StoresRepository storesRepository,
+                               @Value("${finwise.stores.grid-cell-km:2}") double cellKm,
+                               MetricsRecorder metrics) {
+        this.storesRepository = storesRepository;
+        this.cellKm = cellKm;
+        this.metrics = metrics;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    @EventListener
+    public void onCatalogueChanged(CatalogueChangedEvent event) {
+        log.info("Catalogue changed ({}), reloading store locations", event.sources());
+        reload();
+    }
+
+    /**
+     * Rebuilds the grids from every store with coordinates.
+     */
+    public void reload() {
+        rebuildLock.lock();
+        try {
+            Locator loaded = metrics.time("stores.locator.load", () -> {
+                List<LocatedStoreView> stores = storesRepository.findAllLocated();
+                Map<String, List<LocatedStoreView>> byChain = new HashMap<>();
+                stores.forEach(store -> byChain.computeIfAbsent(chainKey(store.getChainName()), key -> new ArrayList<>()).add(store));
+                Map<String, Located> chains = new HashMap<>();
+                byChain.forEach((chain, chainStores) -> chains.put(chain, Located.of(chainStores, cellKm)));
+                return new Locator(Located.of(stores, cellKm), Map.copyOf(chains));
+            });
+            locator = loaded;
+            log.info("Store locator loaded: {} stores across {} chains", loaded.all().grid().size(), loaded.chains().size());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} stores nearest to the position, nearest first. When {@code chain} is given, only
+     * that chain's stores are considered, matched ignoring case; an unknown chain finds nothing.
+     */
+    public List<NearbyStoreDto> findNearest(double latitude, double longitude, String chain, int limit) {
+        return metrics.time("stores.nearest", () -> {
+            Locator current = currentLocator();
+            Located located = chain == null || chain.isBlank() ? current.all() : current.chains().get(chainKey(chain));
+            if (located == null) {
+                return List.of();
+            }
+            List<GeoGrid.Neighbour> neighbours = located.grid().nearest(latitude, longitude, limit);
+            List<NearbyStoreDto> nearest = new ArrayList<>(neighbours.size());
+            for (GeoGrid.Neighbour neighbour : neighbours) {
+                LocatedStoreView store = located.stores().get(neighbour.point());
+                nearest.add(NearbyStoreDto.builder()
+                        .storeId(store.getStoreId())
+                        .chain(store.getChainName())
+                        .storeName(store.getStoreName())
+                        .locality(store.getLocality())
+                        .fullAddress(store.getFullAddress())
+                        .pincode(store.getPincode())
+                        .latitude(store.getLatitude())
+                        .longitude(store.getLongitude())
+                        .distanceKm(Math.round(neighbour.distanceKm() * 100) / 100.0)
+                        .build());
+            }
+            return nearest;
+        }, "chain", chain == null || chain.isBlank() ? "any" : "one");
+    }
+
+    private Locator currentLocator() {
+        Locator current = locator;
+        if (current != null) {
+            return current;
+        }
+        rebuildLock.lock();
+        try {
+            // Another request may have loaded it while this one waited
+            if (locator == null) {
+                reload();
+            }
+            return locator;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private static String chainKey(String chain) {
+        return chain.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Locator(Located all, Map<String, Located> chains) {
+    }
+
+    // A grid and the stores its point indexes refer to
+    private record Located(GeoGrid grid, List<LocatedStoreView> stores) {
+        static Located of(List<LocatedStoreView> stores, double cellKm) {
+            double[] latitudes = new double[stores.size()];
+            double[] longitudes = new double[stores.size()];
+            for (int i = 0; i < stores.size(); i++) {
+                latitudes[i] = stores.get(i).getLatitude();
+                longitudes[i] = stores.get(i).getLongitude();
+            }
+            return new Located(GeoGrid.of(latitudes, longitudes, cellKm), List.copyOf(stores));
+        }
+    }
+}
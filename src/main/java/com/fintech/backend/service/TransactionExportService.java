@@ -0,0 +1,294 @@
+package com.fintech.backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fintech.backend.dto.TransactionDetailsDto;
+import com.fintech.backend.dto.TransactionItemDto;
+import com.fintech.backend.repository.UsersRepository;
+import com.fintech.backend.utils.enums.ExportFormat;
+import com.fintech.backend.utils.mappers.GenericDtoMapper;
+import com.fintech.backend.utils.mappers.GenericResponseFactory;
+import com.fintech.backend.utils.metrics.MetricsRecorder;
+import com.fintech.backend.utils.money.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Locale;
+
+/**
+ * Exports all of a user's transactions with their items as NDJSON or CSV.
+ *
+ * <p>Rows are read with one forward-only query in a read-only transaction, {@code finwise.transactions.export-fetch-size}
+ * at a time, and written to the response as they arrive, so neither the transactions nor the items are collected
+ * into a list and an export of any size runs in constant memory. Newest transactions come first, as in the
+ * transactions API.</p>
+ */
+@Slf4j
+@Service
+public class TransactionExportService extends BaseService {
+    static final String SELECT_TRANSACTIONS_WITH_ITEMS = """
+            SELECT t.transaction_id, t.date, t.time, t.time_group, t.title, t.description, c.category,
+                   t.payment_method, t.total_transaction_amount_paise, t.is_expense,
+                   p.product_name, i.quantity, i.price_per_item_paise, i.total_price_paise, i.item_id
+            FROM transactions t
+            LEFT JOIN categories c ON c.category_id = t.category_id
+            LEFT JOIN transaction_items i ON i.transaction_id = t.transaction_id
+            LEFT JOIN products p ON p.product_id = i.product_id
+            WHERE t.user_id = ?
+            ORDER BY t.date DESC, t.transaction_id, i.item_id
+            """;
+    static final String CSV_HEADER = "transactionId,date,time,timeGroup,title,description,category,paymentMethod,"
+            + "paymentAmount,isExpense,productName,quantity,pricePerItem,totalPrice";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter jsonWriter;
+    private final int fetchSize;
+    private final MetricsRecorder metrics;
+
+    public TransactionExportService(GenericDtoMapper mapper,
+                                    GenericResponseFactory responseFactory,
+                                    UsersRepository usersRepository,
+                                    JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    ObjectMapper objectMapper,
+                                    @Value("${finwise.transactions.export-fetch-size:500}") int fetchSize,
+                                    MetricsRecorder metrics) {
+        super(mapper, responseFactory, usersRepository);
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Lines are flushed with the output buffer, not one by one
+        this.jsonWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.fetchSize = fetchSize;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the body that streams the user's transactions in the given format. The user is checked here, so an
+     * unknown user is reported before the response starts.
+     *
+     * @param userId the user's ID
+     * @param format the export format
+     * @return a {@link StreamingResponseBody} writing the export
+     * @throws com.fintech.backend.config.Exceptions.UserNotFoundException if no user exists for the given ID
+     */
+    public StreamingResponseBody exportTransactions(Long userId, ExportFormat format) {
+        getUserById(userId);
+        return out -> {
+            try {
+                metrics.time("transactions.export", () -> export(userId, format, out),
+                        "format", format.name().toLowerCase(Locale.ROOT));
+            } catch (UncheckedIOException e) {
+                // Usually the client going away mid-export
+                throw e.getCause();
+            }
+        };
+    }
+
+    /**
+     * Writes the user's transactions to {@code out} in the given format and returns how many were written. The
+     * stream is flushed but not closed.
+     */
+    public long export(Long userId, ExportFormat format, OutputStream out) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        ExportRowHandler handler = format == ExportFormat.CSV ? new CsvRowHandler(writer) : new NdjsonRowHandler(writer);
+        try {
+            handler.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_TRANSACTIONS_WITH_ITEMS,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setLong(1, userId);
+            return statement;
+        }, handler));
+        try {
+            handler.finish();
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("Exported {} transactions of user {} as {}", handler.transactions, userId, format);
+        return handler.transactions;
+    }
+
+    // Counts transactions as their first row goes by; rows of one transaction arrive together
+    private abstract static class ExportRowHandler implements RowCallbackHandler {
+        final Writer writer;
+        long transactions;
+        private String currentTransactionId;
+
+        ExportRowHandler(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public final void processRow(ResultSet rs) throws SQLException {
+            String transactionId = rs.getString("transaction_id");
+            boolean first = !transactionId.equals(currentTransactionId);
+            if (first) {
+                currentTransactionId = transactionId;
+                transactions++;
+            }
+            try {
+                write(rs, first);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void start() throws IOException {
+        }
+
+        abstract void write(ResultSet rs, boolean firstRowOfTransaction) throws SQLException, IOException;
+
+        void finish() throws IOException {
+        }
+    }
+
+    private static final class CsvRowHandler extends ExportRowHandler {
+        CsvRowHandler(Writer writer) {
+            super(writer);
+        }
+
+        @Override
+        void start() throws IOException {
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+        }
+
+        @Override
+        void write(ResultSet rs, boolean firstRowOfTransaction) throws SQLException, IOException {
+            boolean hasItem = rs.getObject("item_id") != null;
+            Object isExpense = rs.getObject("is_expense");
+            writeFields(
+                    rs.getString("transaction_id"),
+                    rs.getObject("date", LocalDate.class).toString(),
+                    rs.getString("time"),
+                    rs.getString("time_group"),
+                    rs.getString("title"),
+                    rs.getString("description"),
+                    upperCase(rs.getString("category")),
+                    rs.getString("payment_method"),
+                    Money.ofPaise(rs.getLong("total_transaction_amount_paise")).toString(),
+                    isExpense == null ? null : isExpense.toString(),
+                    hasItem ? rs.getString("product_name") : null,
+                    hasItem && rs.getObject("quantity") != null ? String.valueOf(rs.getInt("quantity")) : null,
+                    hasItem ? Money.ofPaise(rs.getLong("price_per_item_paise")).toString() : null,
+                    hasItem ? Money.ofPaise(rs.getLong("total_price_paise")).toString() : null);
+        }
+
+        private void writeFields(String... fields) throws IOException {
+            for (int i = 0; i < fields.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeField(fields[i]);
+            }
+            writer.write("\r\n");
+        }
+
+        // RFC 4180: quote fields holding a separator, quote or line break, doubling embedded quotes
+        private void writeField(String field) throws IOException {
+            if (field == null) {
+                return;
+            }
+            if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+                writer.write(field);
+                return;
+            }
+            writer.write('"');
+            writer.write(field.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    // Holds the items of the current transaction only, and writes it once the next one starts
+    private final class NdjsonRowHandler extends ExportRowHandler {
+        private final JsonGenerator generator;
+        private TransactionDetailsDto current;
+
+        NdjsonRowHandler(Writer writer) {
+            super(writer);
+            try {
+                this.generator = jsonWriter.createGenerator(writer)
+                        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        void write(ResultSet rs, boolean firstRowOfTransaction) throws SQLException, IOException {
+            if (firstRowOfTransaction) {
+                writeCurrent();
+                Object isExpense = rs.getObject("is_expense");
+                current = TransactionDetailsDto.builder()
+                        .transactionId(rs.getString("transaction_id"))
+                        .date(rs.getObject("date", LocalDate.class).toString())
+                        .time(rs.getString("time"))
+                        .timeGroup(rs.getString("time_group"))
+                        .title(rs.getString("title"))
+                        .description(rs.getString("description"))
+                        .category(upperCase(rs.getString("category")))
+                        .paymentMethod(rs.getString("payment_method"))
+                        .paymentAmount(Money.toRupees(rs.getLong("total_transaction_amount_paise")))
+                        .isExpense(isExpense == null ? null : rs.getBoolean("is_expense"))
+                        .status("COMPLETE")
+                        .transactionItems(new ArrayList<>())
+                        .build();
+            }
+            if (rs.getObject("item_id") != null) {
+                current.getTransactionItems().add(TransactionItemDto.builder()
+                        .productName(rs.getString("product_name"))
+                        .quantity(rs.getObject("quantity") == null ? null : rs.getInt("quantity"))
+                        .pricePerItem(Money.toRupees(rs.getLong("price_per_item_paise")))
+                        .totalPrice(Money.toRupees(rs.getLong("total_price_paise")))
+                        .build());
+            }
+        }
+
+        @Override
+        void finish() throws IOException {
+            writeCurrent();
+            generator.flush();
+        }
+
+        private void writeCurrent() throws IOException {
+            if (current == null) {
+                return;
+            }
+            jsonWriter.writeValue(generator, current);
+            generator.writeRaw('\n');
+            current = null;
+        }
+    }
+
+    private static String upperCase(String value) {
+        return value == null ? null : value.toUpperCase(Locale.ROOT);
+    }
+}
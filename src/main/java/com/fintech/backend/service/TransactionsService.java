@@ -7,18 +7,21 @@ import com.fintech.backend.dto.TransactionItemDto;
 import com.fintech.backend.dto.TransactionsDto;
 import com.fintech.backend.models.*;
 import com.fintech.backend.repository.*;
-import com.fintech.backend.utils.enums.Status;
 import com.fintech.backend.utils.mappers.GenericDtoMapper;
 import com.fintech.backend.utils.mappers.GenericResponseFactory;
+import com.fintech.backend.utils.metrics.MetricsRecorder;
+import com.fintech.backend.utils.money.Money;
+import io.micrometer.core.instrument.Timer;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.Month;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import static java.time.format.TextStyle.FULL;
@@ -28,38 +31,52 @@ import static java.util.Locale.ENGLISH;
 @Service
 public class TransactionsService extends BaseService {
 
+    private static final String PHASE_TIMER = "transaction.create.phase";
+
     private final AccountRepository accountRepository;
-    private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
     private final TransactionItemsRepository transactionItemsRepository;
     private final TransactionsRepository transactionsRepository;
-    private final ProductsRepository productsRepository;
+    private final ProductMatcher productMatcher;
     private final GoalCategoriesRepository goalCategoriesRepository;
     private final SavingGoalsRepository savingGoalsRepository;
     private final SimpMessagingTemplate simpMessagingTemplate;
     private final SavingRecordsRepository savingRecordsRepository;
+    private final ActiveGoalCategoryLookup activeGoalCategoryLookup;
+    private final GoalProgressCache goalProgressCache;
+    private final SavingsSuggestionCache savingsSuggestionCache;
+    private final MetricsRecorder metrics;
 
     public TransactionsService(GenericDtoMapper mapper,
                                GenericResponseFactory responseFactory,
                                UsersRepository usersRepository,
                                AccountRepository accountRepository,
-                               CategoryRepository categoryRepository,
+                               CategoryRegistry categoryRegistry,
                                TransactionItemsRepository transactionItemsRepository,
                                TransactionsRepository transactionsRepository,
-                               ProductsRepository productsRepository,
+                               ProductMatcher productMatcher,
                                GoalCategoriesRepository goalCategoriesRepository,
                                SavingGoalsRepository savingGoalsRepository,
                                SimpMessagingTemplate simpMessagingTemplate,
-                               SavingRecordsRepository savingRecordsRepository) {
+                               SavingRecordsRepository savingRecordsRepository,
+                               ActiveGoalCategoryLookup activeGoalCategoryLookup,
+                               GoalProgressCache goalProgressCache,
+                               SavingsSuggestionCache savingsSuggestionCache,
+                               MetricsRecorder metrics) {
         super(mapper, responseFactory, usersRepository);
         this.accountRepository = accountRepository;
-        this.categoryRepository = categoryRepository;
+        this.categoryRegistry = categoryRegistry;
         this.transactionItemsRepository = transactionItemsRepository;
         this.transactionsRepository = transactionsRepository;
-        this.productsRepository = productsRepository;
+        this.productMatcher = productMatcher;
         this.goalCategoriesRepository = goalCategoriesRepository;
         this.savingGoalsRepository = savingGoalsRepository;
         this.simpMessagingTemplate = simpMessagingTemplate;
         this.savingRecordsRepository = savingRecordsRepository;
+        this.activeGoalCategoryLookup = activeGoalCategoryLookup;
+        this.goalProgressCache = goalProgressCache;
+        this.savingsSuggestionCache = savingsSuggestionCache;
+        this.metrics = metrics;
     }
 
     /**
@@ -75,31 +92,44 @@ public class TransactionsService extends BaseService {
                         () -> new TransactionNotFoundException("Transaction with ID " + transactionId + " not found.")
                 );
 
-        List<TransactionItems> transactionItems = transactionItemsRepository.findAllByTransactionId(transaction);
-
-        List<TransactionItemDto> transactionItemDtos = transactionItems.stream()
-                .map(transactionItem -> TransactionItemDto.builder()
-                        .totalPrice(transactionItem.getTotalPrice())
-                        .productName(transactionItem.getProductId().getProductName())
-                        .quantity(transactionItem.getQuantity())
-                        .pricePerItem(transactionItem.getPricePerItem())
-                        .build())
+        List<TransactionItemDto> transactionItemDtos = transactionItemsRepository.findAllByTransactionId(transaction)
+                .stream()
+                .map(this::toTransactionItemDto)
                 .toList();
 
-        TransactionDetailsDto transactionDetailsDto = mapper.map(transaction, TransactionDetailsDto.class);
-        transactionDetailsDto.setTransactionId(transaction.getTransactionId());
-        transactionDetailsDto.setDate(transaction.getDate().toString());
-        transactionDetailsDto.setCategory(transaction.getCategory().getCategory().toUpperCase());
-        transactionDetailsDto.setPaymentMethod(transaction.getPaymentMethod());
-        transactionDetailsDto.setPaymentAmount(transaction.getTotalTransactionAmount());
-        transactionDetailsDto.setTime(transaction.getTime());
-        transactionDetailsDto.setTimeGroup(transaction.getTimeGroup());
-
-        transactionDetailsDto.setStatus("COMPLETE");
-
-        transactionDetailsDto.setTransactionItems(transactionItemDtos);
+        return toTransactionDetailsDto(transaction, transactionItemDtos);
+    }
 
-        return transactionDetailsDto;
+    /**
+     * Retrieves one page of a user's transactions with their items, newest first.
+     *
+     * <p>Pages are keyed by the date and ID of the last transaction returned, so transactions recorded while a
+     * client pages through do not shift later pages. The items of the whole page are loaded with a single query
+     * instead of one per transaction.</p>
+     *
+     * @param userId             the user's ID
+     * @param afterDate          date of the last transaction of the previous page, or {@code null} for the first page
+     * @param afterTransactionId ID of the last transaction of the previous page, or {@code null} for the first page
+     * @param size               the number of transactions to load
+     * @return the page's {@link TransactionDetailsDto}s; fewer than {@code size} means it is the last page
+     */
+    public List<TransactionDetailsDto> getTransactionDetailsPage(Long userId, LocalDate afterDate,
+                                                                 String afterTransactionId, int size) {
+        Users user = getUserById(userId);
+        List<Transactions> transactions = afterDate == null || afterTransactionId == null
+                ? transactionsRepository.findAllByUserIdOrderByDateDescTransactionIdAsc(user, Limit.of(size))
+                : transactionsRepository.findPageAfter(user, afterDate, afterTransactionId, Limit.of(size));
+        Map<String, List<TransactionItemDto>> itemsByTransaction = transactions.isEmpty()
+                ? Map.of()
+                : transactionItemsRepository.findAllByTransactionIdIn(transactions)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        item -> item.getTransactionId().getTransactionId(),
+                        Collectors.mapping(this::toTransactionItemDto, Collectors.toList())));
+        return transactions.stream()
+                .map(transaction -> toTransactionDetailsDto(transaction,
+                        itemsByTransaction.getOrDefault(transaction.getTransactionId(), List.of())))
+                .toList();
     }
 
     /**
@@ -133,21 +163,35 @@ public class TransactionsService extends BaseService {
      */
     @Transactional
     public Map<String, String> createNewTransaction(Long userId, TransactionDetailsDto transactionDetailsDto) {
+        Timer.Sample sample = metrics.start();
+        String outcome = "error";
+        try {
+            Map<String, String> response = doCreateNewTransaction(userId, transactionDetailsDto);
+            outcome = "success";
+            return response;
+        } finally {
+            metrics.stop(sample, "transaction.create", "outcome", outcome);
+        }
+    }
+
+    private Map<String, String> doCreateNewTransaction(Long userId, TransactionDetailsDto transactionDetailsDto) {
         Users user = getUserById(userId);
         Accounts account = accountRepository.findByUserId(user);
-        Category category = categoryRepository.findByCategory(transactionDetailsDto.getCategory().toUpperCase(ENGLISH));
-        GoalCategories goalCategories = goalCategoriesRepository.findByGoalCategoryId(
-                getCategoryGoalIdFromCategory(category, user, LocalDate.parse(transactionDetailsDto.getDate())))
+        Category category = categoryRegistry.resolve(transactionDetailsDto.getCategory());
+        ActiveGoalCategoryLookup.ActiveGoalCategory goalCategory = activeGoalCategoryLookup
+                .find(category, user, LocalDate.parse(transactionDetailsDto.getDate()))
                 .orElse(null);
 
-        AtomicReference<Double> allItemAmount = new AtomicReference<>(0.0);
+        AtomicLong allItemAmountPaise = new AtomicLong();
+        long paymentAmountPaise = Money.toPaise(transactionDetailsDto.getPaymentAmount());
 
-        account.setCurrentBalance(
-                transactionDetailsDto.getIsExpense()
-                        ? account.getCurrentBalance() - transactionDetailsDto.getPaymentAmount()
-                        : account.getCurrentBalance() + transactionDetailsDto.getPaymentAmount()
-        );
-        accountRepository.save(account);
+        metrics.time(PHASE_TIMER, () -> {
+            accountRepository.addToBalance(account.getAccountId(),
+                    transactionDetailsDto.getIsExpense()
+                            ? -paymentAmountPaise
+                            : paymentAmountPaise
+            );
+        }, "phase", "account-update");
 
         Transactions transaction = new Transactions();
         transaction.setUserId(user);
@@ -157,12 +201,8 @@ public class TransactionsService extends BaseService {
                         : UUID.randomUUID().toString()
         );
         transaction.setTitle(transactionDetailsDto.getTitle());
-        transaction.setCategory(
-                category == null
-                        ? categoryRepository.findByCategory("OTHER")
-                        : category
-        );
-        transaction.setTotalTransactionAmount(transactionDetailsDto.getPaymentAmount());
+        transaction.setCategory(category);
+        transaction.setTotalTransactionAmountPaise(paymentAmountPaise);
         transaction.setAccountId(account);
         transaction.setIsExpense(transactionDetailsDto.getIsExpense());
         transaction.setPaymentMethod(transactionDetailsDto.getPaymentMethod());
@@ -183,48 +223,52 @@ public class TransactionsService extends BaseService {
                     TransactionItems transactionItem = new TransactionItems();
                     mapper.map(item, transactionItem);
                     transactionItem.setTransactionId(transaction);
-                    transactionItem.setProductId(
-                            productsRepository.findByProductName(item.getProductName()) == null
-                                    ? productsRepository.save(new Products(item.getProductName(), "pcs"))
-                                    : productsRepository.findByProductName(item.getProductName())
-                    );
-                    transactionItem.setTotalPrice(item.getTotalPrice());
-                    allItemAmount.updateAndGet(s -> s + item.getTotalPrice());
+                    transactionItem.setProductId(metrics.time(PHASE_TIMER,
+                            () -> productMatcher.resolve(item.getProductName()),
+                            "phase", "product-resolution"));
+                    transactionItem.setPricePerItemPaise(Money.toPaise(item.getPricePerItem()));
+                    transactionItem.setTotalPricePaise(Money.toPaise(item.getTotalPrice()));
+                    allItemAmountPaise.addAndGet(transactionItem.getTotalPricePaise());
                     return transactionItem;
                 })
                 .toList();
-        transactionItemsRepository.saveAll(items);
+        metrics.time(PHASE_TIMER, () -> transactionItemsRepository.saveAll(items), "phase", "item-save");
+        savingsSuggestionCache.evictAfterCommit(userId);
         log.info("Transaction items created successfully");
 
         //  Update Category goals and Saving Goals
-        if (goalCategories != null) {
+        if (goalCategory != null) {
+            Timer.Sample goalSample = metrics.start();
             try {
-                double savedAmount = allItemAmount.get() - transactionDetailsDto.getPaymentAmount();
+                long savedAmountPaise = allItemAmountPaise.get() - paymentAmountPaise;
 
-                goalCategories.setSavedAmount(goalCategories.getSavedAmount() + savedAmount);
-                goalCategories.getGoalId().setCurrentBalance(goalCategories.getGoalId().getCurrentBalance() + savedAmount);
-                goalCategoriesRepository.save(goalCategories);
+                goalCategoriesRepository.addToSavedAmount(goalCategory.goalCategoryId(), savedAmountPaise);
                 log.info("Goal Category updated successfully");
-                savingGoalsRepository.save(goalCategories.getGoalId());
+                savingGoalsRepository.addToCurrentBalance(goalCategory.goalId(), savedAmountPaise);
                 log.info("Saving Goal updated successfully");
 
                 SavingRecords savingRecords = new SavingRecords();
                 savingRecords.setTransactionId(transaction);
-                savingRecords.setCategoryGoalId(goalCategories);
-                savingRecords.setGoalId(goalCategories.getGoalId());
-                savingRecords.setSavedAmount(savedAmount);
+                savingRecords.setCategoryGoalId(goalCategoriesRepository.getReferenceById(goalCategory.goalCategoryId()));
+                savingRecords.setGoalId(savingGoalsRepository.getReferenceById(goalCategory.goalId()));
+                savingRecords.setSavedAmountPaise(savedAmountPaise);
                 savingRecords.setDate(transaction.getDate());
                 savingRecordsRepository.saveAndFlush(savingRecords);
                 log.info("Saving Records created successfully");
+                goalProgressCache.evictAfterCommit(userId);
             } catch (Exception e) {
-                log.error("Failed to update goal category for Goal ID {}. Error: {}", goalCategories.getGoalId().getGoalId(), e.getMessage());
+                log.error("Failed to update goal category for Goal ID {}. Error: {}", goalCategory.goalId(), e.getMessage());
+            } finally {
+                metrics.stop(goalSample, PHASE_TIMER, "phase", "goal-update");
             }
         } else {
             log.info("No Goal Category found for user: {}", user.getUserId());
         }
 
-        pushFinancialSummary(userId);
-        pushTransactions(userId);
+        metrics.time(PHASE_TIMER, () -> {
+            pushFinancialSummary(userId);
+            pushTransactions(userId);
+        }, "phase", "push");
 
         return Map.of("transactionId", transaction.getTransactionId());
     }
@@ -237,14 +281,14 @@ public class TransactionsService extends BaseService {
      */
     public Map<String, Double> getSpendingPerMonth(Long userId) {
         Users user = getUserById(userId);
-        Double Spending = transactionsRepository.findAllByUserId(user)
+        long spendingPaise = transactionsRepository.findAllByUserId(user)
                 .stream()
                 .filter((transaction) -> transaction.getIsExpense() == true
                         && transaction.getDate().isAfter(LocalDate.now().withDayOfMonth(1))
                 )
-                .mapToDouble(Transactions::getTotalTransactionAmount)
+                .mapToLong(Transactions::getTotalTransactionAmountPaise)
                 .sum();
-        return Map.of("spending", Spending);
+        return Map.of("spending", Money.toRupees(spendingPaise));
     }
 
     /**
@@ -255,14 +299,14 @@ public class TransactionsService extends BaseService {
      */
     public Map<String, Double> getIncomePerMonth(Long userId) {
         Users user = getUserById(userId);
-        Double Income = transactionsRepository.findAllByUserId(user)
+        long incomePaise = transactionsRepository.findAllByUserId(user)
                 .stream()
                 .filter((transaction) -> transaction.getIsExpense() == false
                         && transaction.getDate().isAfter(LocalDate.now().withDayOfMonth(1))
                 )
-                .mapToDouble(Transactions::getTotalTransactionAmount)
+                .mapToLong(Transactions::getTotalTransactionAmountPaise)
                 .sum();
-        return Map.of("income", Income);
+        return Map.of("income", Money.toRupees(incomePaise));
     }
 
     /**
@@ -273,8 +317,8 @@ public class TransactionsService extends BaseService {
      */
     public Map<String, Double> getBalance(Long userId) {
         Users user = getUserById(userId);
-        Double Balance = accountRepository.findByUserId(user).getCurrentBalance();
-        return Map.of("balance", Balance);
+        long balancePaise = accountRepository.findByUserId(user).getCurrentBalancePaise();
+        return Map.of("balance", Money.toRupees(balancePaise));
     }
 
     public LastWeekDetailsDto lastWeekDetails(Long userId) {
@@ -288,12 +332,13 @@ public class TransactionsService extends BaseService {
 
     private double getIncomeLastWeek(Long userId) {
         Users user = getUserById(userId);
-        return transactionsRepository.findAllByUserId(user)
+        long incomePaise = transactionsRepository.findAllByUserId(user)
                 .stream()
                 .filter((transaction) -> transaction.getIsExpense() == false
                         && transaction.getDate().isAfter(LocalDate.now().minusWeeks(1)))
-                .mapToDouble(Transactions::getTotalTransactionAmount)
+                .mapToLong(Transactions::getTotalTransactionAmountPaise)
                 .sum();
+        return Money.toRupees(incomePaise);
     }
 
     private Map<String, Double> getMostSpendingWithCategoryLastWeek(Long userId) {
@@ -303,47 +348,69 @@ public class TransactionsService extends BaseService {
                 .filter((transaction) -> transaction.getIsExpense() == true
                         && transaction.getDate().isAfter(LocalDate.now().minusWeeks(1)))
                 .toList();
-        Map<String, Double> totalSpendingPerCategory = transactions.stream()
+        Map<String, Long> totalSpendingPerCategory = transactions.stream()
                 .collect(Collectors.groupingBy(
                         transaction -> transaction.getCategory().getCategory(),
-                        Collectors.summingDouble(Transactions::getTotalTransactionAmount)
+                        Collectors.summingLong(Transactions::getTotalTransactionAmountPaise)
                 ));
         Map<String, Double> maxSpending = new HashMap<>();
         totalSpendingPerCategory.entrySet().stream()
-                .max(Comparator.comparingDouble(Map.Entry::getValue))
-                .ifPresent(max -> maxSpending.put(max.getKey(), max.getValue()));
+                .max(Map.Entry.comparingByValue())
+                .ifPresent(max -> maxSpending.put(max.getKey(), Money.toRupees(max.getValue())));
         return maxSpending;
     }
 
+    private TransactionItemDto toTransactionItemDto(TransactionItems transactionItem) {
+        return TransactionItemDto.builder()
+                .totalPrice(Money.toRupees(transactionItem.getTotalPricePaise()))
+                .productName(transactionItem.getProductId().getProductName())
+                .quantity(transactionItem.getQuantity())
+                .pricePerItem(Money.toRupees(transactionItem.getPricePerItemPaise()))
+                .build();
+    }
+
+    private TransactionDetailsDto toTransactionDetailsDto(Transactions transaction, List<TransactionItemDto> transactionItemDtos) {
+        TransactionDetailsDto transactionDetailsDto = mapper.map(transaction, TransactionDetailsDto.class);
+        transactionDetailsDto.setTransactionId(transaction.getTransactionId());
+        transactionDetailsDto.setDate(transaction.getDate().toString());
+        transactionDetailsDto.setCategory(transaction.getCategory().getCategory().toUpperCase());
+        transactionDetailsDto.setPaymentMethod(transaction.getPaymentMethod());
+        transactionDetailsDto.setPaymentAmount(Money.toRupees(transaction.getTotalTransactionAmountPaise()));
+        transactionDetailsDto.setTime(transaction.getTime());
+        transactionDetailsDto.setTimeGroup(transaction.getTimeGroup());
+
+        transactionDetailsDto.setStatus("COMPLETE");
+
+        transactionDetailsDto.setTransactionItems(transactionItemDtos);
+
+        return transactionDetailsDto;
+    }
+
     private void pushFinancialSummary(Long userId) {
         final String destination = "/topic/financial-summary/" + userId;
+        Timer.Sample sample = metrics.start();
         try {
             simpMessagingTemplate.convertAndSend(destination, "Financial Summary updated on server");
             log.info("Financial Summary broadcast on {}", destination);
         } catch (Exception e) {
+            metrics.increment("websocket.push.failures", "topic", "financial-summary");
             log.error("Failed to broadcast financial summary on {}. Error: {}", destination, e.getMessage());
+        } finally {
+            metrics.stop(sample, "websocket.push", "topic", "financial-summary");
         }
     }
 
     private void pushTransactions(Long userId) {
         final String destination = "/topic/transactions/" + userId;
+        Timer.Sample sample = metrics.start();
         try {
             simpMessagingTemplate.convertAndSend(destination, "New transaction added to DB on server");
             log.info("Transactions broadcast on {}", destination);
         } catch (Exception e) {
+            metrics.increment("websocket.push.failures", "topic", "transactions");
             log.error("Failed to broadcast transactions on {}. Error: {}", destination, e.getMessage());
+        } finally {
+            metrics.stop(sample, "websocket.push", "topic", "transactions");
         }
     }
-
-    private Long getCategoryGoalIdFromCategory(Category category, Users user, LocalDate date) {
-        return goalCategoriesRepository.findAllByCategoryIdAndGoalId_UserId(category, user)
-                .stream()
-                .filter(goal -> goal.getGoalId().getCompletionDate().getMonth() == date.getMonth().plus(1)
-                        && goal.getGoalId().getCompletionDate().getYear() == date.getYear()
-                        && goal.getGoalId().getStatus() == Status.ACTIVE
-                )
-                .map(GoalCategories::getGoalCategoryId)
-                .findFirst()
-                .orElse(null);
-    }
 }
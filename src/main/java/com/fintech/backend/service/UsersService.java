@@ -12,6 +12,8 @@ import com.fintech.backend.repository.AccountRepository;
 import com.fintech.backend.repository.UsersRepository;
 import com.fintech.backend.utils.mappers.GenericDtoMapper;
 import com.fintech.backend.utils.mappers.GenericResponseFactory;
+import com.fintech.backend.utils.metrics.MetricsRecorder;
+import io.micrometer.core.instrument.Timer;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -32,16 +34,19 @@ public class UsersService extends BaseService implements UserDetailsService {
     private final UsersRepository usersRepository;
     private final AccountRepository accountRepository;
     private final SimpMessagingTemplate simpMessagingTemplate;
+    private final MetricsRecorder metrics;
 
     public UsersService(GenericDtoMapper mapper,
                         GenericResponseFactory responseFactory,
                         UsersRepository usersRepository,
                         AccountRepository accountRepository,
-                        SimpMessagingTemplate simpMessagingTemplate) {
+                        SimpMessagingTemplate simpMessagingTemplate,
+                        MetricsRecorder metrics) {
         super(mapper, responseFactory, usersRepository);
         this.usersRepository = usersRepository;
         this.accountRepository = accountRepository;
         this.simpMessagingTemplate = simpMessagingTemplate;
+        this.metrics = metrics;
     }
 
     /**
@@ -253,11 +258,15 @@ public class UsersService extends BaseService implements UserDetailsService {
 
     private void pushUserUpdate(Long userId) {
         final String destination = "/topic/users/" + userId;
+        Timer.Sample sample = metrics.start();
         try {
             simpMessagingTemplate.convertAndSend(destination, "User Details updated on server");
             log.info("User Update broadcast on {}", destination);
         } catch (Exception e) {
+            metrics.increment("websocket.push.failures", "topic", "users");
             log.error("Failed to broadcast user details on {}. Error: {}", destination, e.getMessage());
+        } finally {
+            metrics.stop(sample, "websocket.push", "topic", "users");
         }
     }
 }
@@ -0,0 +1,77 @@
+package com.fintech.backend.utils.autoRunners;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Moves money stored as rupee {@code double} columns into the {@code *_paise} {@code bigint} columns the entities
+ * now map.
+ *
+ * <p>Runs once the schema has been updated and before the web server starts. Each legacy value is cleared as it is
+ * converted, so the migration is idempotent and a restart only touches rows that were not converted yet. Databases
+ * created after the switch have no legacy columns and are skipped.</p>
+ */
+@Slf4j
+@Component
+public class MoneyColumnsMigration implements InitializingBean {
+
+    private static final List<MoneyColumn> COLUMNS = List.of(
+            new MoneyColumn("accounts", "account_name", "current_balance_paise"),
+            new MoneyColumn("transactions", "total_transaction_amount", "total_transaction_amount_paise"),
+            new MoneyColumn("transaction_items", "price_per_item", "price_per_item_paise"),
+            new MoneyColumn("transaction_items", "total_price", "total_price_paise"),
+            new MoneyColumn("goal_categories", "budgeted_amount", "budgeted_amount_paise"),
+            new MoneyColumn("goal_categories", "saved_amount", "saved_amount_paise"),
+            new MoneyColumn("saving_goals", "goal_amount", "goal_amount_paise"),
+            new MoneyColumn("saving_goals", "current_balance", "current_balance_paise"),
+            new MoneyColumn("saving_records", "saved_amount", "saved_amount_paise"),
+            new MoneyColumn("product_prices", "price", "price_paise")
+    );
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    // The EntityManagerFactory dependency makes sure Hibernate has added the new columns first
+    public MoneyColumnsMigration(EntityManagerFactory entityManagerFactory, DataSource dataSource, JdbcTemplate jdbcTemplate) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        for (MoneyColumn column : COLUMNS) {
+            if (!columnExists(column.table(), column.legacyColumn())) {
+                continue;
+            }
+            int migrated = jdbcTemplate.update("UPDATE " + column.table()
+                    + " SET " + column.paiseColumn() + " = CAST(ROUND(" + column.legacyColumn() + " * 100) AS BIGINT), "
+                    + column.legacyColumn() + " = NULL"
+                    + " WHERE " + column.legacyColumn() + " IS NOT NULL");
+            if (migrated > 0) {
+                log.info("Migrated {} rows of {}.{} to {}", migrated, column.table(), column.legacyColumn(), column.paiseColumn());
+            }
+        }
+    }
+
+    private boolean columnExists(String table, String column) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, table, column)) {
+                return columns.next();
+            }
+        }
+    }
+
+    private record MoneyColumn(String table, String legacyColumn, String paiseColumn) {
+    }
+}
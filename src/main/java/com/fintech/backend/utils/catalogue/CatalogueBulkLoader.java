@@ -0,0 +1,589 @@
+package com.fintech.backend.utils.catalogue;
+
+import com.fintech.backend.models.Chian;
+import com.fintech.backend.repository.ChainRepository;
+import com.fintech.backend.utils.metrics.MetricsRecorder;
+import com.fintech.backend.utils.money.Money;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Streams the store and product catalogue CSV files into the database with JDBC batch statements.
+ *
+ * <p>Loads are incremental: each CSV line is matched to an existing row by its natural key (chain and address for
+ * stores; name, brand, unit and offer type for products). New rows are inserted, rows whose other columns differ are
+ * updated, and identical rows are left alone, so loading the same file twice writes nothing. A price that differs
+ * from the product's latest price at that chain is appended as a new price record for today; earlier prices are
+ * kept as history. Store coordinates come from a separate file, matched to stores as described on
+ * {@link #loadStoreLocations}.</p>
+ *
+ * <p>Lines are read one at a time and written in batches of {@code finwise.catalogue.batch-size} rows. Chains are
+ * resolved once into a name → id map instead of being looked up per line. Products use IDENTITY ids, which stop
+ * Hibernate from batching, so they are inserted here with plain JDBC and their generated keys are read back from
+ * the batch to insert the prices. Each load is logged with its rows per second and recorded as
+ * {@code catalogue.load}.</p>
+ */
+@Slf4j
+@Component
+public class CatalogueBulkLoader {
+
+    /** Chains whose prices the product CSV lists, in column order after the five product fields. */
+    public static final List<String> PRICE_CHAINS = List.of("D-Mart", "Star Bazaar", "Reliance Mart");
+
+    /** Chain names the store location CSV spells differently from the store CSV. */
+    private static final Map<String, String> CHAIN_ALIASES = Map.of("DMart", "D-Mart");
+
+    private static final String SELECT_STORES =
+            "SELECT store_id, chain_id, store_name, locality, full_address, pincode FROM stores";
+    private static final String INSERT_STORE =
+            "INSERT INTO stores (chain_id, store_name, locality, full_address, pincode) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_STORE =
+            "UPDATE stores SET store_name = ?, locality = ?, pincode = ? WHERE store_id = ?";
+    private static final String SELECT_STORE_LOCATIONS =
+            "SELECT store_id, chain_id, locality, full_address, pincode, latitude, longitude FROM stores ORDER BY store_id";
+    private static final String INSERT_LOCATED_STORE = "INSERT INTO stores "
+            + "(chain_id, store_name, locality, full_address, pincode, latitude, longitude) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_STORE_LOCATION =
+            "UPDATE stores SET latitude = ?, longitude = ? WHERE store_id = ?";
+    private static final String SELECT_PRODUCTS =
+            "SELECT product_id, product_category, product_name, brand, standard_unit, offer_type FROM products";
+    private static final String INSERT_PRODUCT =
+            "INSERT INTO products (product_category, product_name, brand, standard_unit, offer_type) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_PRODUCT =
+            "UPDATE products SET product_category = ? WHERE product_id = ?";
+    // Only the latest row per product and chain, found through the (product_id, chain_id, date_recorded) index
+    private static final String SELECT_LATEST_PRICES = """
+            SELECT p.product_id, p.chain_id, p.price_paise FROM product_prices p
+            WHERE NOT EXISTS (
+                SELECT 1 FROM product_prices newer
+                WHERE newer.product_id = p.product_id AND newer.chain_id = p.chain_id
+                  AND (newer.date_recorded > p.date_recorded
+                       OR (newer.date_recorded = p.date_recorded AND newer.price_record_id > p.price_record_id)))
+            """;
+    private static final String INSERT_PRICE =
+            "INSERT INTO product_prices (product_id, chain_id, price_paise, date_recorded) VALUES (?, ?, ?, ?)";
+
+    private static final long NO_PRICE = -1;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChainRepository chainRepository;
+    private final MetricsRecorder metrics;
+    private final int batchSize;
+
+    public CatalogueBulkLoader(JdbcTemplate jdbcTemplate,
+                               ChainRepository chainRepository,
+                               @Value("${finwise.catalogue.batch-size:1000}") int batchSize,
+                               MetricsRecorder metrics) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chainRepository = chainRepository;
+        this.batchSize = batchSize;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Loads a store CSV with the columns {@code chain, storeName, locality, fullAddress, pincode}, creating chains
+     * that do not exist yet.
+     */
+    @Transactional
+    public LoadResult loadStores(Resource csv) throws IOException {
+        long start = System.nanoTime();
+        Map<String, Long> chainIds = chainIdsByName();
+        Map<StoreKey, StoreRow> existing = new HashMap<>();
+        jdbcTemplate.query(SELECT_STORES, (ResultSet rs) -> {
+            StoreRow store = new StoreRow(rs.getLong("store_id"), rs.getLong("chain_id"), rs.getString("store_name"),
+                    rs.getString("locality"), rs.getString("full_address"), rs.getLong("pincode"));
+            existing.putIfAbsent(store.key(), store);
+        });
+
+        Set<StoreKey> seen = new HashSet<>();
+        List<StoreRow> inserts = new ArrayList<>(batchSize);
+        List<StoreRow> updates = new ArrayList<>(batchSize);
+        Counts counts = new Counts();
+        forEachRecord(csv, 5, values -> {
+            StoreRow store = new StoreRow(null, chainId(chainIds, values[0].trim()), values[1].trim(), values[2].trim(),
+                    values[3].trim(), Long.valueOf(values[4].trim()));
+            if (!seen.add(store.key())) {
+                // The first line of a store wins, so repeated lines cannot flip it back and forth between loads
+                counts.unchanged++;
+                return;
+            }
+            StoreRow current = existing.get(store.key());
+            if (current == null) {
+                inserts.add(store);
+            } else if (!current.equals(store.withId(current.storeId()))) {
+                updates.add(store.withId(current.storeId()));
+            } else {
+                counts.unchanged++;
+            }
+            if (inserts.size() == batchSize) {
+                counts.inserted += insertStores(inserts);
+            }
+            if (updates.size() == batchSize) {
+                counts.updated += updateStores(updates);
+            }
+        });
+        counts.inserted += insertStores(inserts);
+        counts.updated += updateStores(updates);
+        return finish(csv, "stores", counts, start);
+    }
+
+    /**
+     * Loads a store location CSV with the columns {@code chain, storeType, locality, fullAddress, pincode, latitude,
+     * longitude} and sets the coordinates of the stores it describes.
+     *
+     * <p>Its addresses are worded differently from the store CSV, so a line is matched to the stores of the same
+     * chain and pincode, taking the one whose locality and address are most alike when there are several. A store
+     * is matched by one line at most, and lines that match no store are inserted as stores of their own.</p>
+     */
+    @Transactional
+    public LoadResult loadStoreLocations(Resource csv) throws IOException {
+        long start = System.nanoTime();
+        Map<String, Long> chainIds = chainIdsByName();
+        Map<LocationKey, List<LocatedStore>> existing = new HashMap<>();
+        jdbcTemplate.query(SELECT_STORE_LOCATIONS, (ResultSet rs) -> {
+            LocatedStore store = new LocatedStore(rs.getLong("store_id"), rs.getLong("chain_id"),
+                    rs.getString("locality"), rs.getString("full_address"), rs.getLong("pincode"),
+                    rs.getObject("latitude", Double.class), rs.getObject("longitude", Double.class));
+            existing.computeIfAbsent(new LocationKey(store.chainId(), store.pincode()), key -> new ArrayList<>()).add(store);
+        });
+
+        Set<Long> matched = new HashSet<>();
+        List<LocatedStore> inserts = new ArrayList<>(batchSize);
+        List<LocatedStore> updates = new ArrayList<>(batchSize);
+        Counts counts = new Counts();
+        forEachRecord(csv, 7, values -> {
+            String chain = CHAIN_ALIASES.getOrDefault(values[0].trim(), values[0].trim());
+            LocatedStore line = new LocatedStore(null, chainId(chainIds, chain), values[2].trim(), values[3].trim(),
+                    Long.valueOf(values[4].trim()), Double.valueOf(values[5].trim()), Double.valueOf(values[6].trim()));
+            LocatedStore current = closestStore(existing.getOrDefault(new LocationKey(line.chainId(), line.pincode()),
+                    List.of()), line, matched);
+            if (current == null) {
+                inserts.add(line);
+            } else if (!Objects.equals(current.latitude(), line.latitude())
+                    || !Objects.equals(current.longitude(), line.longitude())) {
+                updates.add(current.withCoordinates(line.latitude(), line.longitude()));
+            } else {
+                counts.unchanged++;
+            }
+            if (inserts.size() == batchSize) {
+                counts.inserted += insertLocatedStores(inserts, chainIds);
+            }
+            if (updates.size() == batchSize) {
+                counts.updated += updateStoreLocations(updates);
+            }
+        });
+        counts.inserted += insertLocatedStores(inserts, chainIds);
+        counts.updated += updateStoreLocations(updates);
+        return finish(csv, "store-locations", counts, start);
+    }
+
+    private static LocatedStore closestStore(List<LocatedStore> candidates, LocatedStore line, Set<Long> matched) {
+        String lineText = line.locality() + " " + line.fullAddress();
+        LocatedStore closest = null;
+        double closestSimilarity = -1;
+        for (LocatedStore candidate : candidates) {
+            if (matched.contains(candidate.storeId())) {
+                continue;
+            }
+            double similarity = ProductNameIndex.similarity(lineText, candidate.locality() + " " + candidate.fullAddress());
+            if (similarity > closestSimilarity) {
+                closest = candidate;
+                closestSimilarity = similarity;
+            }
+        }
+        if (closest != null) {
+            matched.add(closest.storeId());
+        }
+        return closest;
+    }
+
+    /**
+     * Loads a product CSV with the columns {@code category, name, brand, unit, offerType} followed by one price
+     * per {@link #PRICE_CHAINS} entry. Counts products and price records written.
+     */
+    @Transactional
+    public LoadResult loadProducts(Resource csv) throws IOException {
+        long start = System.nanoTime();
+        Map<String, Long> chainIds = chainIdsByName();
+        long[] priceChainIds = PRICE_CHAINS.stream().mapToLong(chain -> chainId(chainIds, chain)).toArray();
+        Map<ProductKey, ProductRow> existing = new HashMap<>();
+        jdbcTemplate.query(SELECT_PRODUCTS, (ResultSet rs) -> {
+            ProductRow product = new ProductRow(rs.getLong("product_id"), rs.getString("product_category"),
+                    rs.getString("product_name"), rs.getString("brand"), rs.getString("standard_unit"),
+                    rs.getString("offer_type"), null);
+            existing.putIfAbsent(product.key(), product);
+        });
+        Map<Long, long[]> latestPrices = latestPrices(priceChainIds);
+
+        LocalDate today = LocalDate.now();
+        Set<ProductKey> seen = new HashSet<>();
+        List<ProductRow> inserts = new ArrayList<>(batchSize);
+        List<ProductRow> updates = new ArrayList<>(batchSize);
+        List<PriceRow> prices = new ArrayList<>(batchSize);
+        Counts counts = new Counts();
+        forEachRecord(csv, 5 + PRICE_CHAINS.size(), values -> {
+            long[] pricesPaise = new long[PRICE_CHAINS.size()];
+            for (int i = 0; i < pricesPaise.length; i++) {
+                pricesPaise[i] = Money.toPaise(Double.valueOf(values[5 + i].trim()));
+            }
+            ProductRow product = new ProductRow(null, values[0].trim(), values[1].trim(), values[2].trim(),
+                    values[3].trim(), values[4].trim(), pricesPaise);
+            if (!seen.add(product.key())) {
+                // The first line of a product wins, so repeated lines cannot flip its price between loads
+                counts.unchanged++;
+                return;
+            }
+            ProductRow current = existing.get(product.key());
+            if (current == null) {
+                inserts.add(product);
+            } else {
+                boolean changed = false;
+                if (!Objects.equals(current.category(), product.category())) {
+                    updates.add(product.withId(current.productId()));
+                    changed = true;
+                }
+                long[] latest = latestPrices.computeIfAbsent(current.productId(), id -> noPrices(priceChainIds.length));
+                for (int i = 0; i < priceChainIds.length; i++) {
+                    if (latest[i] != pricesPaise[i]) {
+                        prices.add(new PriceRow(current.productId(), priceChainIds[i], pricesPaise[i]));
+                        changed = true;
+                    }
+                }
+                if (!changed) {
+                    counts.unchanged++;
+                }
+            }
+            if (inserts.size() == batchSize) {
+                counts.inserted += insertProducts(inserts, priceChainIds, today);
+            }
+            if (updates.size() == batchSize) {
+                counts.updated += updateProducts(updates);
+            }
+            if (prices.size() >= batchSize) {
+                counts.inserted += insertPrices(prices, today);
+            }
+        });
+        counts.inserted += insertProducts(inserts, priceChainIds, today);
+        counts.updated += updateProducts(updates);
+        counts.inserted += insertPrices(prices, today);
+        return finish(csv, "products", counts, start);
+    }
+
+    private int insertStores(List<StoreRow> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_STORE, batch, batch.size(), (ps, store) -> {
+            ps.setLong(1, store.chainId());
+            ps.setString(2, store.storeName());
+            ps.setString(3, store.locality());
+            ps.setString(4, store.fullAddress());
+            ps.setLong(5, store.pincode());
+        });
+        int inserted = batch.size();
+        batch.clear();
+        return inserted;
+    }
+
+    private int updateStores(List<StoreRow> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_STORE, batch, batch.size(), (ps, store) -> {
+            ps.setString(1, store.storeName());
+            ps.setString(2, store.locality());
+            ps.setLong(3, store.pincode());
+            ps.setLong(4, store.storeId());
+        });
+        int updated = batch.size();
+        batch.clear();
+        return updated;
+    }
+
+    private int insertLocatedStores(List<LocatedStore> batch, Map<String, Long> chainIds) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Map<Long, String> chainNames = new HashMap<>();
+        chainIds.forEach((name, id) -> chainNames.put(id, name));
+        jdbcTemplate.batchUpdate(INSERT_LOCATED_STORE, batch, batch.size(), (ps, store) -> {
+            ps.setLong(1, store.chainId());
+            // The store CSV names stores after their chain
+            ps.setString(2, chainNames.get(store.chainId()));
+            ps.setString(3, store.locality());
+            ps.setString(4, store.fullAddress());
+            ps.setLong(5, store.pincode());
+            ps.setDouble(6, store.latitude());
+            ps.setDouble(7, store.longitude());
+        });
+        int inserted = batch.size();
+        batch.clear();
+        return inserted;
+    }
+
+    private int updateStoreLocations(List<LocatedStore> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_STORE_LOCATION, batch, batch.size(), (ps, store) -> {
+            ps.setDouble(1, store.latitude());
+            ps.setDouble(2, store.longitude());
+            ps.setLong(3, store.storeId());
+        });
+        int updated = batch.size();
+        batch.clear();
+        return updated;
+    }
+
+    private int insertProducts(List<ProductRow> batch, long[] priceChainIds, LocalDate dateRecorded) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_PRODUCT, new String[]{"product_id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ProductRow product = batch.get(i);
+                        ps.setString(1, product.category());
+                        ps.setString(2, product.name());
+                        ps.setString(3, product.brand());
+                        ps.setString(4, product.unit());
+                        ps.setString(5, product.offerType());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                }, keys);
+        List<Map<String, Object>> productIds = keys.getKeyList();
+        if (productIds.size() != batch.size()) {
+            throw new IllegalStateException("Expected " + batch.size() + " product ids, got " + productIds.size());
+        }
+
+        List<PriceRow> prices = new ArrayList<>(batch.size() * priceChainIds.length);
+        for (int product = 0; product < batch.size(); product++) {
+            long productId = ((Number) productIds.get(product).values().iterator().next()).longValue();
+            for (int chain = 0; chain < priceChainIds.length; chain++) {
+                prices.add(new PriceRow(productId, priceChainIds[chain], batch.get(product).pricesPaise()[chain]));
+            }
+        }
+        int inserted = batch.size();
+        batch.clear();
+        return inserted + insertPrices(prices, dateRecorded);
+    }
+
+    private int updateProducts(List<ProductRow> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_PRODUCT, batch, batch.size(), (ps, product) -> {
+            ps.setString(1, product.category());
+            ps.setLong(2, product.productId());
+        });
+        int updated = batch.size();
+        batch.clear();
+        return updated;
+    }
+
+    private int insertPrices(List<PriceRow> batch, LocalDate dateRecorded) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Date date = Date.valueOf(dateRecorded);
+        jdbcTemplate.batchUpdate(INSERT_PRICE, batch, batchSize, (ps, price) -> {
+            ps.setLong(1, price.productId());
+            ps.setLong(2, price.chainId());
+            ps.setLong(3, price.pricePaise());
+            ps.setObject(4, date, Types.DATE);
+        });
+        int inserted = batch.size();
+        batch.clear();
+        return inserted;
+    }
+
+    // Latest recorded price per product at each price chain, NO_PRICE where none was recorded
+    private Map<Long, long[]> latestPrices(long[] priceChainIds) {
+        Map<Long, Integer> chainIndexes = new HashMap<>();
+        for (int i = 0; i < priceChainIds.length; i++) {
+            chainIndexes.put(priceChainIds[i], i);
+        }
+        Map<Long, long[]> latestPrices = new HashMap<>();
+        jdbcTemplate.query(SELECT_LATEST_PRICES, (ResultSet rs) -> {
+            Integer chainIndex = chainIndexes.get(rs.getLong("chain_id"));
+            if (chainIndex != null) {
+                latestPrices.computeIfAbsent(rs.getLong("product_id"), id -> noPrices(priceChainIds.length))
+                        [chainIndex] = rs.getLong("price_paise");
+            }
+        });
+        return latestPrices;
+    }
+
+    private static long[] noPrices(int chains) {
+        long[] prices = new long[chains];
+        Arrays.fill(prices, NO_PRICE);
+        return prices;
+    }
+
+    private Map<String, Long> chainIdsByName() {
+        Map<String, Long> chainIds = new HashMap<>();
+        chainRepository.findAll().forEach(chain -> chainIds.putIfAbsent(chain.getChainName(), chain.getChainId()));
+        return chainIds;
+    }
+
+    private long chainId(Map<String, Long> chainIds, String chainName) {
+        return chainIds.computeIfAbsent(chainName, name -> chainRepository.saveAndFlush(new Chian(name)).getChainId());
+    }
+
+    // Skips the header, blank lines and lines that do not have expectedFields fields or fail to parse
+    private static void forEachRecord(Resource csv, int expectedFields, Consumer<String[]> consumer) throws IOException {
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(csv.getInputStream(), StandardCharsets.UTF_8))) {
+            if (br.readLine() == null) {
+                log.warn("CSV file is empty: {}", csv.getDescription());
+                return;
+            }
+            String line;
+            while ((line = br.readLine()) != null) {
+                if (line.isBlank()) continue;
+                String[] values = parseCsvLine(line);
+                if (values.length != expectedFields) {
+                    log.warn("Skipping line due to incorrect number of fields (expected {}, found {}): {}",
+                            expectedFields, values.length, line);
+                    continue;
+                }
+                try {
+                    consumer.accept(values);
+                } catch (NumberFormatException e) {
+                    log.warn("Skipping line due to invalid number: {}", line);
+                }
+            }
+        }
+    }
+
+    private LoadResult finish(Resource csv, String target, Counts counts, long start) {
+        LoadResult result = new LoadResult(counts.inserted, counts.updated, counts.unchanged, System.nanoTime() - start);
+        metrics.time("catalogue.load", Duration.ofNanos(result.nanos()), "target", target);
+        metrics.record("catalogue.load.rows", result.rows(), "target", target);
+        log.info("Loaded {} from {}: {} rows inserted, {} updated, {} lines unchanged in {} ms ({} rows/s)", target,
+                csv.getDescription(), result.inserted(), result.updated(), result.unchanged(),
+                result.nanos() / 1_000_000, Math.round(result.rowsPerSecond()));
+        return result;
+    }
+
+    // Minimal CSV parser: supports quoted fields with commas and double-quote escaping per RFC 4180
+    static String[] parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder sb = new StringBuilder();
+        boolean inQuotes = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (c == '\"') {
+                if (inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '\"') {
+                    // Escaped quote
+                    sb.append('\"');
+                    i++;
+                } else {
+                    inQuotes = !inQuotes;
+                }
+            } else if (c == ',' && !inQuotes) {
+                fields.add(sb.toString());
+                sb.setLength(0);
+            } else {
+                sb.append(c);
+            }
+        }
+        fields.add(sb.toString());
+        return fields.toArray(new String[0]);
+    }
+
+    /**
+     * Rows written by one load, lines that matched the database already, and how long it took.
+     */
+    public record LoadResult(int inserted, int updated, int unchanged, long nanos) {
+        public int rows() {
+            return inserted + updated;
+        }
+
+        public double rowsPerSecond() {
+            return nanos == 0 ? 0 : rows() * 1e9 / nanos;
+        }
+    }
+
+    private static final class Counts {
+        private int inserted;
+        private int updated;
+        private int unchanged;
+    }
+
+    private record StoreKey(long chainId, String fullAddress) {
+    }
+
+    private record StoreRow(Long storeId, long chainId, String storeName, String locality, String fullAddress,
+                            long pincode) {
+        StoreKey key() {
+            return new StoreKey(chainId, fullAddress);
+        }
+
+        StoreRow withId(Long id) {
+            return new StoreRow(id, chainId, storeName, locality, fullAddress, pincode);
+        }
+    }
+
+    private record LocationKey(long chainId, long pincode) {
+    }
+
+    private record LocatedStore(Long storeId, long chainId, String locality, String fullAddress, long pincode,
+                                Double latitude, Double longitude) {
+        LocatedStore withCoordinates(Double latitude, Double longitude) {
+            return new LocatedStore(storeId, chainId, locality, fullAddress, pincode, latitude, longitude);
+        }
+    }
+
+    private record ProductKey(String name, String brand, String unit, String offerType) {
+    }
+
+    private record ProductRow(Long productId, String category, String name, String brand, String unit,
+                              String offerType, long[] pricesPaise) {
+        ProductKey key() {
+            return new ProductKey(name, brand, unit, offerType);
+        }
+
+        ProductRow withId(Long id) {
+            return new ProductRow(id, category, name, brand, unit, offerType, pricesPaise);
+        }
+    }
+
+    private record PriceRow(long productId, long chainId, long pricePaise) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.fintech.backend.utils.catalogue;
+
+import java.util.List;
+
+/**
+ * Published by {@link CatalogueSync} after at least one catalogue file was applied and committed.
+ *
+ * @param sources classpath locations of the files that changed
+ */
+public record CatalogueChangedEvent(List<String> sources) {
+}
@@ -0,0 +1,176 @@
+package com.fintech.backend.utils.catalogue;
+
+import com.fintech.backend.models.CatalogueImports;
+import com.fintech.backend.repository.CatalogueImportsRepository;
+import com.fintech.backend.utils.metrics.MetricsRecorder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Keeps the store and product catalogue in line with the bundled CSV files.
+ *
+ * <p>Runs once the application reports ready, on a background thread unless {@code finwise.catalogue.sync.async}
+ * is {@code false}, so boot time does not depend on the catalogue size. Each file's SHA-256 hash is stored in
+ * {@code catalogue_imports}; an unchanged file is skipped without being parsed, and a changed one is applied
+ * incrementally by {@link CatalogueBulkLoader}. The import row is locked while a file is synced, so nodes booting
+ * together apply each version once. A {@link CatalogueChangedEvent} is published once the changed files are
+ * committed, and also when a file was left unchanged here because another node imported it after this node built
+ * its indexes, e.g. while this node waited on the lock.</p>
+ */
+@Slf4j
+@Component
+public class CatalogueSync {
+    public static final String STORES_CSV = "dummyData/pune_supermarket_database.csv";
+    public static final String STORE_LOCATIONS_CSV = "dummyData/pune_store_data.csv";
+    public static final String PRODUCTS_CSV = "dummyData/product_data.csv";
+
+    private final CatalogueBulkLoader loader;
+    private final CatalogueImportsRepository importsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MetricsRecorder metrics;
+    private final boolean async;
+    // Earliest time this node's catalogue indexes may have read the tables; they are built at ApplicationReady
+    private volatile Instant indexesBuiltAt = Instant.now();
+
+    public CatalogueSync(CatalogueBulkLoader loader,
+                         CatalogueImportsRepository importsRepository,
+                         PlatformTransactionManager transactionManager,
+                         ApplicationEventPublisher eventPublisher,
+                         @Value("${finwise.catalogue.sync.async:true}") boolean async,
+                         MetricsRecorder metrics) {
+        this.loader = loader;
+        this.importsRepository = importsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.async = async;
+        this.metrics = metrics;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (async) {
+            Thread.ofVirtual().name("catalogue-sync").start(this::syncAll);
+        } else {
+            syncAll();
+        }
+    }
+
+    /**
+     * Syncs the store file, then the store locations that apply to those stores, then the product file, which relies
+     * on the chains the stores create.
+     */
+    public void syncAll() {
+        List<String> changed = new ArrayList<>();
+        if (sync(STORES_CSV, loader::loadStores)) {
+            changed.add(STORES_CSV);
+        }
+        if (sync(STORE_LOCATIONS_CSV, loader::loadStoreLocations)) {
+            changed.add(STORE_LOCATIONS_CSV);
+        }
+        if (sync(PRODUCTS_CSV, loader::loadProducts)) {
+            changed.add(PRODUCTS_CSV);
+        }
+        if (!changed.isEmpty()) {
+            indexesBuiltAt = Instant.now();
+            eventPublisher.publishEvent(new CatalogueChangedEvent(List.copyOf(changed)));
+        }
+    }
+
+    /**
+     * Syncs one file and returns whether the catalogue changed since this node built its indexes.
+     */
+    private boolean sync(String csvClasspath, CsvLoad load) {
+        ClassPathResource resource = new ClassPathResource(csvClasspath);
+        if (!resource.exists()) {
+            log.warn("CSV resource not found on classpath: {}", csvClasspath);
+            return false;
+        }
+        try {
+            String contentHash = sha256(resource);
+            ensureImportRow(csvClasspath);
+            String result = transactionTemplate.execute(status -> {
+                CatalogueImports catalogueImport = importsRepository.findBySource(csvClasspath).orElseThrow();
+                if (contentHash.equals(catalogueImport.getContentHash())) {
+                    log.info("Catalogue file {} unchanged since {}, skipping", csvClasspath, catalogueImport.getImportedAt());
+                    Instant importedAt = catalogueImport.getImportedAt();
+                    return importedAt != null && importedAt.isAfter(indexesBuiltAt) ? "imported-elsewhere" : "skipped";
+                }
+                CatalogueBulkLoader.LoadResult loaded = load(load, resource);
+                catalogueImport.setContentHash(contentHash);
+                catalogueImport.setRowsInserted(loaded.inserted());
+                catalogueImport.setRowsUpdated(loaded.updated());
+                catalogueImport.setImportedAt(Instant.now());
+                importsRepository.save(catalogueImport);
+                return "synced";
+            });
+            metrics.increment("catalogue.sync", "source", csvClasspath, "result", result);
+            return !"skipped".equals(result);
+        } catch (Exception e) {
+            metrics.increment("catalogue.sync", "source", csvClasspath, "result", "error");
+            log.error("Error processing CSV file '{}': {}", csvClasspath, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private void ensureImportRow(String source) {
+        if (importsRepository.existsBySource(source)) {
+            return;
+        }
+        try {
+            importsRepository.saveAndFlush(new CatalogueImports(source));
+        } catch (DataIntegrityViolationException e) {
+            // The unique source constraint lets exactly one booting node create the row
+            log.info("Catalogue import row for {} already created by another node", source);
+        }
+    }
+
+    private static CatalogueBulkLoader.LoadResult load(CsvLoad load, Resource resource) {
+        try {
+            return load.load(resource);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String sha256(Resource resource) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream in = resource.getInputStream()) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    @FunctionalInterface
+    private interface CsvLoad {
+        CatalogueBulkLoader.LoadResult load(Resource csv) throws IOException;
+    }
+}
@@ -0,0 +1,157 @@
+package com.fintech.backend.utils.catalogue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable product × chain table of the latest prices, in paise.
+ *
+ * <p>Prices live in one flat {@code long[]} indexed by {@code row * chainCount + chain}, so pricing a basket is a few
+ * array reads per item with no boxing or allocation beyond the result. Rows are product names matched
+ * case-insensitively; when a name has several catalogue variants (e.g. offer types), each chain's cell holds the
+ * cheapest of them. Cells without a price hold {@link #NO_PRICE}.</p>
+ */
+public final class PriceMatrix {
+    public static final long NO_PRICE = -1;
+
+    private final String[] chainNames;
+    private final String[] productNames;
+    private final long[] pricesPaise;
+    private final Map<String, Integer> rowsByName;
+
+    private PriceMatrix(String[] chainNames, String[] productNames, long[] pricesPaise, Map<String, Integer> rowsByName) {
+        this.chainNames = chainNames;
+        this.productNames = productNames;
+        this.pricesPaise = pricesPaise;
+        this.rowsByName = rowsByName;
+    }
+
+    public static Builder builder(List<String> chainNames) {
+        return new Builder(chainNames);
+    }
+
+    /**
+     * Returns a builder over the same chains holding every row of this matrix except those of the given product
+     * names, so that just those rows can be rebuilt from fresh prices.
+     */
+    public Builder toBuilderWithout(Collection<String> productNames) {
+        Set<String> dropped = new HashSet<>();
+        productNames.forEach(name -> dropped.add(normalize(name)));
+        Builder builder = new Builder(Arrays.asList(chainNames));
+        for (int row = 0; row < this.productNames.length; row++) {
+            if (!dropped.contains(normalize(this.productNames[row]))) {
+                int offset = row * chainNames.length;
+                builder.row(this.productNames[row], Arrays.copyOfRange(pricesPaise, offset, offset + chainNames.length));
+            }
+        }
+        return builder;
+    }
+
+    public int chainCount() {
+        return chainNames.length;
+    }
+
+    public String chainName(int chain) {
+        return chainNames[chain];
+    }
+
+    public int productCount() {
+        return productNames.length;
+    }
+
+    /**
+     * Returns the row of a product name, ignoring case and surrounding blanks, or {@code -1} when unknown.
+     */
+    public int row(String productName) {
+        Integer row = productName == null ? null : rowsByName.get(normalize(productName));
+        return row == null ? -1 : row;
+    }
+
+    public String productName(int row) {
+        return productNames[row];
+    }
+
+    public long pricePaise(int row, int chain) {
+        return pricesPaise[row * chainNames.length + chain];
+    }
+
+    /**
+     * Returns the chain with the lowest price for a row, or {@code -1} when no chain has a price.
+     */
+    public int cheapestChain(int row) {
+        int cheapest = -1;
+        int offset = row * chainNames.length;
+        for (int chain = 0; chain < chainNames.length; chain++) {
+            long price = pricesPaise[offset + chain];
+            if (price != NO_PRICE && (cheapest == -1 || price < pricesPaise[offset + cheapest])) {
+                cheapest = chain;
+            }
+        }
+        return cheapest;
+    }
+
+    static String normalize(String productName) {
+        return productName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public static final class Builder {
+        private final List<String> chainNames;
+        private final Map<String, Integer> chainIndexes = new HashMap<>();
+        private final Map<String, Integer> rowsByName = new HashMap<>();
+        private final List<String> productNames = new ArrayList<>();
+        private final List<long[]> rows = new ArrayList<>();
+
+        private Builder(List<String> chainNames) {
+            this.chainNames = List.copyOf(chainNames);
+            for (int i = 0; i < this.chainNames.size(); i++) {
+                chainIndexes.put(this.chainNames.get(i), i);
+            }
+        }
+
+        /**
+         * Records a price, keeping the lower one when the product name already has a price at the chain. Prices of
+         * chains the builder was not created with are ignored.
+         */
+        public Builder price(String productName, String chainName, long pricePaise) {
+            Integer chain = chainIndexes.get(chainName);
+            if (chain == null || productName == null || productName.isBlank()) {
+                return this;
+            }
+            int row = rowsByName.computeIfAbsent(normalize(productName), name -> {
+                productNames.add(productName.trim());
+                long[] prices = new long[chainNames.size()];
+                Arrays.fill(prices, NO_PRICE);
+                rows.add(prices);
+                return rows.size() - 1;
+            });
+            long[] prices = rows.get(row);
+            if (prices[chain] == NO_PRICE || pricePaise < prices[chain]) {
+                prices[chain] = pricePaise;
+            }
+            return this;
+        }
+
+        private void row(String productName, long[] prices) {
+            rowsByName.put(normalize(productName), rows.size());
+            productNames.add(productName);
+            rows.add(prices);
+        }
+
+        public PriceMatrix build() {
+            int chains = chainNames.size();
+            long[] pricesPaise = new long[rows.size() * chains];
+            for (int row = 0; row < rows.size(); row++) {
+                System.arraycopy(rows.get(row), 0, pricesPaise, row * chains, chains);
+            }
+            return new PriceMatrix(chainNames.toArray(new String[0]), productNames.toArray(new String[0]), pricesPaise,
+                    Map.copyOf(rowsByName));
+        }
+    }
+}
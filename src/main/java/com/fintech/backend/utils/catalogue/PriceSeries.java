@@ -0,0 +1,166 @@
+package com.fintech.backend.utils.catalogue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Immutable price history of one product at one chain, stored as the dates on which the price changed.
+ *
+ * <p>Each change is encoded as the days since the previous change and the difference to the previous price, both
+ * as zig-zag varints in one {@code byte[]}, so a change usually costs two to four bytes instead of a date and a
+ * boxed price per record. Observations that repeat the price in effect are dropped while building, so only changes
+ * are kept.</p>
+ */
+public final class PriceSeries {
+    /** Price returned for dates before the first recorded price. */
+    public static final long NO_PRICE = -1;
+
+    private final byte[] encoded;
+    private final int size;
+
+    private PriceSeries(byte[] encoded, int size) {
+        this.encoded = encoded;
+        this.size = size;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /** Number of price changes, the first recorded price included. */
+    public int size() {
+        return size;
+    }
+
+    /** Bytes used by the encoded changes. */
+    public int encodedBytes() {
+        return encoded.length;
+    }
+
+    /**
+     * Returns the price in effect on {@code date}, or {@link #NO_PRICE} if no price was recorded by then.
+     */
+    public long priceOn(LocalDate date) {
+        long day = date.toEpochDay();
+        long[] price = {NO_PRICE};
+        forEachChange((changeDay, pricePaise) -> {
+            if (changeDay > day) {
+                return false;
+            }
+            price[0] = pricePaise;
+            return true;
+        });
+        return price[0];
+    }
+
+    /**
+     * Visits the price in effect on {@code from}, reported as of {@code from}, and then every change up to and
+     * including {@code to}, oldest first. Nothing is reported for days before the first recorded price.
+     */
+    public void forEachBetween(LocalDate from, LocalDate to, PointConsumer consumer) {
+        long fromDay = from.toEpochDay();
+        long toDay = to.toEpochDay();
+        long[] inEffect = {NO_PRICE};
+        forEachChange((day, pricePaise) -> {
+            if (day > toDay) {
+                return false;
+            }
+            if (day <= fromDay) {
+                inEffect[0] = pricePaise;
+                return true;
+            }
+            if (inEffect[0] != NO_PRICE) {
+                consumer.accept(from, inEffect[0]);
+                inEffect[0] = NO_PRICE;
+            }
+            consumer.accept(LocalDate.ofEpochDay(day), pricePaise);
+            return true;
+        });
+        if (inEffect[0] != NO_PRICE && fromDay <= toDay) {
+            consumer.accept(from, inEffect[0]);
+        }
+    }
+
+    // Decodes the changes in order until the visitor returns false
+    private void forEachChange(ChangeVisitor visitor) {
+        long day = 0;
+        long price = 0;
+        int[] position = {0};
+        for (int change = 0; change < size; change++) {
+            day += readVarLong(encoded, position);
+            price += readVarLong(encoded, position);
+            if (!visitor.visit(day, price)) {
+                return;
+            }
+        }
+    }
+
+    private static long readVarLong(byte[] bytes, int[] position) {
+        long zigZag = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[position[0]++];
+            zigZag |= (long) (b & 0x7f) << shift;
+            shift += 7;
+        } while (b < 0);
+        return (zigZag >>> 1) ^ -(zigZag & 1);
+    }
+
+    @FunctionalInterface
+    public interface PointConsumer {
+        void accept(LocalDate date, long pricePaise);
+    }
+
+    @FunctionalInterface
+    private interface ChangeVisitor {
+        boolean visit(long epochDay, long pricePaise);
+    }
+
+    public static final class Builder {
+        private byte[] encoded = new byte[16];
+        private int length;
+        private int size;
+        private long lastDay;
+        private long lastPrice;
+
+        private Builder() {
+        }
+
+        /**
+         * Records a price observed on {@code date}. Observations must come in date order; one that repeats the price
+         * in effect is ignored, and a second price on the same date is kept as a change on that date.
+         */
+        public Builder add(LocalDate date, long pricePaise) {
+            long day = date.toEpochDay();
+            if (size > 0 && day < lastDay) {
+                throw new IllegalArgumentException("Price on " + date + " is older than the previous one");
+            }
+            if (size > 0 && pricePaise == lastPrice) {
+                return this;
+            }
+            writeVarLong(day - lastDay);
+            writeVarLong(pricePaise - lastPrice);
+            lastDay = day;
+            lastPrice = pricePaise;
+            size++;
+            return this;
+        }
+
+        public PriceSeries build() {
+            return new PriceSeries(Arrays.copyOf(encoded, length), size);
+        }
+
+        private void writeVarLong(long value) {
+            long zigZag = (value << 1) ^ (value >> 63);
+            if (length + 10 > encoded.length) {
+                encoded = Arrays.copyOf(encoded, encoded.length * 2);
+            }
+            while ((zigZag & ~0x7fL) != 0) {
+                encoded[length++] = (byte) ((zigZag & 0x7f) | 0x80);
+                zigZag >>>= 7;
+            }
+            encoded[length++] = (byte) zigZag;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.fintech.backend.utils.catalogue;
+
+import java.util.Set;
+
+/**
+ * Published after price observations recorded outside the catalogue files were committed.
+ *
+ * @param productIds products that got at least one new price record
+ */
+public record PricesRecordedEvent(Set<Long> productIds) {
+}
@@ -0,0 +1,289 @@
+package com.fintech.backend.utils.catalogue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable trigram index that maps a noisy product name, such as a receipt line, to the closest catalogue entry.
+ *
+ * <p>Texts are split into trigrams the way Postgres {@code pg_trgm} does it: lower-cased, split into words on
+ * anything that is not a letter or digit, and each word padded with two leading blanks and one trailing blank.
+ * Similarity is the number of shared trigrams divided by the number of distinct trigrams in either text, so word
+ * order does not matter and a dropped or swapped letter only costs a few trigrams.</p>
+ *
+ * <p>Each trigram keeps a posting list of entry IDs, and a lookup counts the query trigrams per entry in a
+ * {@code short[]}. Only the query's rarest trigrams can make an entry a candidate: an entry scoring at least
+ * {@code threshold} must share {@code ceil(threshold * |query|)} trigrams, so it appears in at least one of the
+ * {@code |query| - ceil(threshold * |query|) + 1} shortest lists. The longer lists then only add to existing
+ * candidates, shortest first, and a candidate is dropped as soon as the lists left cannot lift it to that many
+ * shared trigrams, so trigrams found in nearly every entry (pack sizes, units) are rarely scanned.</p>
+ */
+public final class ProductNameIndex {
+    private static final int[] NO_POSTINGS = new int[0];
+
+    private final long[] productIds;
+    private final int[] trigramCounts;
+    private final Map<Long, int[]> postings;
+
+    private ProductNameIndex(long[] productIds, int[] trigramCounts, Map<Long, int[]> postings) {
+        this.productIds = productIds;
+        this.trigramCounts = trigramCounts;
+        this.postings = postings;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return productIds.length;
+    }
+
+    /**
+     * Returns the entry most similar to {@code text} with a similarity of at least {@code threshold}, or
+     * {@code null} when there is none. Ties go to the entry added first.
+     */
+    public Match bestMatch(String text, double threshold) {
+        long[] query = trigrams(text);
+        if (query.length == 0 || productIds.length == 0) {
+            return null;
+        }
+        int[][] lists = new int[query.length][];
+        for (int i = 0; i < query.length; i++) {
+            lists[i] = postings.getOrDefault(query[i], NO_POSTINGS);
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+
+        int minShared = Math.max(1, (int) Math.ceil(threshold * query.length));
+        int prefixLists = query.length - minShared + 1;
+
+        // shared[entry] counts the query trigrams an entry has; only the prefix lists can make an entry a candidate
+        short[] shared = new short[productIds.length];
+        int[] candidates = new int[64];
+        int candidateCount = 0;
+        for (int list = 0; list < prefixLists; list++) {
+            for (int entry : lists[list]) {
+                if (shared[entry]++ == 0) {
+                    if (candidateCount == candidates.length) {
+                        candidates = Arrays.copyOf(candidates, candidateCount * 2);
+                    }
+                    candidates[candidateCount++] = entry;
+                }
+            }
+        }
+        if (candidateCount == 0) {
+            return null;
+        }
+        // Walk the remaining lists from the shortest, dropping candidates that can no longer share minShared
+        // trigrams; the longest lists are usually only binary-searched for the few candidates left
+        for (int list = prefixLists; list < lists.length && candidateCount > 0; list++) {
+            int[] postingList = lists[list];
+            if ((long) candidateCount * (32 - Integer.numberOfLeadingZeros(postingList.length)) < postingList.length) {
+                for (int c = 0; c < candidateCount; c++) {
+                    if (Arrays.binarySearch(postingList, candidates[c]) >= 0) {
+                        shared[candidates[c]]++;
+                    }
+                }
+            } else {
+                for (int entry : postingList) {
+                    if (shared[entry] > 0) {
+                        shared[entry]++;
+                    }
+                }
+            }
+            int remaining = lists.length - list - 1;
+            int kept = 0;
+            for (int c = 0; c < candidateCount; c++) {
+                if (shared[candidates[c]] + remaining >= minShared) {
+                    candidates[kept++] = candidates[c];
+                }
+            }
+            candidateCount = kept;
+        }
+
+        int best = -1;
+        double bestScore = 0;
+        for (int c = 0; c < candidateCount; c++) {
+            int entry = candidates[c];
+            double score = shared[entry] / (double) (query.length + trigramCounts[entry] - shared[entry]);
+            if (score >= threshold && (score > bestScore || (score == bestScore && entry < best))) {
+                best = entry;
+                bestScore = score;
+            }
+        }
+        return best < 0 ? null : new Match(productIds[best], bestScore);
+    }
+
+    /**
+     * Returns a copy of this index with one more searchable text for a product, so a small index can grow one entry
+     * at a time without re-reading its other texts. Only the posting lists of the text's trigrams are copied; the
+     * rest are shared. A text already in the index keeps matching the product it was first added for, since ties go
+     * to the entry added first.
+     */
+    public ProductNameIndex with(long productId, String text) {
+        long[] trigrams = trigrams(text);
+        if (trigrams.length == 0) {
+            return this;
+        }
+        int entry = productIds.length;
+        long[] grownProductIds = Arrays.copyOf(productIds, entry + 1);
+        grownProductIds[entry] = productId;
+        int[] grownTrigramCounts = Arrays.copyOf(trigramCounts, entry + 1);
+        grownTrigramCounts[entry] = trigrams.length;
+        Map<Long, int[]> grownPostings = new HashMap<>(postings);
+        for (long trigram : trigrams) {
+            // The new entry has the highest number, so appending keeps every list sorted
+            int[] list = postings.getOrDefault(trigram, NO_POSTINGS);
+            int[] grown = Arrays.copyOf(list, list.length + 1);
+            grown[list.length] = entry;
+            grownPostings.put(trigram, grown);
+        }
+        return new ProductNameIndex(grownProductIds, grownTrigramCounts, grownPostings);
+    }
+
+    /**
+     * Returns the trigram similarity of two texts, between 0 and 1, as used by {@link #bestMatch}.
+     */
+    public static double similarity(String a, String b) {
+        long[] first = trigrams(a);
+        long[] second = trigrams(b);
+        if (first.length == 0 || second.length == 0) {
+            return 0;
+        }
+        int shared = 0;
+        for (int i = 0, j = 0; i < first.length && j < second.length; ) {
+            if (first[i] == second[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (first[i] < second[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return shared / (double) (first.length + second.length - shared);
+    }
+
+    /**
+     * Lower-cases a text and reduces it to its words, separated by single blanks.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(c);
+            } else if (!normalized.isEmpty() && normalized.charAt(normalized.length() - 1) != ' ') {
+                normalized.append(' ');
+            }
+        }
+        return normalized.toString().stripTrailing();
+    }
+
+    /**
+     * Returns the distinct trigrams of a text, each packed into a {@code long} as three 16-bit chars.
+     */
+    static long[] trigrams(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return new long[0];
+        }
+        String[] words = normalized.split(" ");
+        long[] trigrams = new long[normalized.length() + 2 * words.length];
+        int count = 0;
+        for (String word : words) {
+            String padded = "  " + word + " ";
+            for (int t = 0; t + 3 <= padded.length(); t++) {
+                trigrams[count++] = ((long) padded.charAt(t) << 32) | ((long) padded.charAt(t + 1) << 16) | padded.charAt(t + 2);
+            }
+        }
+        Arrays.sort(trigrams, 0, count);
+        int distinct = 0;
+        for (int t = 0; t < count; t++) {
+            if (distinct == 0 || trigrams[distinct - 1] != trigrams[t]) {
+                trigrams[distinct++] = trigrams[t];
+            }
+        }
+        return Arrays.copyOf(trigrams, distinct);
+    }
+
+    /**
+     * @param productId  the product the matched entry belongs to
+     * @param similarity shared trigrams over distinct trigrams of both texts, between 0 and 1
+     */
+    public record Match(long productId, double similarity) {
+    }
+
+    public static final class Builder {
+        private final Map<String, Long> entries = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a searchable text for a product. A text that is already in the index, ignoring case and
+         * punctuation, keeps the product it was first added for.
+         */
+        public Builder add(long productId, String text) {
+            String normalized = normalize(text);
+            if (!normalized.isEmpty()) {
+                entries.putIfAbsent(normalized, productId);
+            }
+            return this;
+        }
+
+        public ProductNameIndex build() {
+            long[] productIds = new long[entries.size()];
+            int[][] entryTrigrams = new int[entries.size()][];
+            // Trigrams are numbered on first sight so the posting lists can be sized and filled with plain arrays
+            Map<Long, Integer> trigramNumbers = new HashMap<>();
+            long[] trigramValues = new long[1024];
+            int[] listSizes = new int[1024];
+            int entry = 0;
+            for (Map.Entry<String, Long> text : entries.entrySet()) {
+                productIds[entry] = text.getValue();
+                long[] trigrams = trigrams(text.getKey());
+                int[] numbers = new int[trigrams.length];
+                for (int t = 0; t < trigrams.length; t++) {
+                    int number = trigramNumbers.computeIfAbsent(trigrams[t], trigram -> trigramNumbers.size());
+                    if (number == listSizes.length) {
+                        listSizes = Arrays.copyOf(listSizes, number * 2);
+                        trigramValues = Arrays.copyOf(trigramValues, number * 2);
+                    }
+                    trigramValues[number] = trigrams[t];
+                    listSizes[number]++;
+                    numbers[t] = number;
+                }
+                entryTrigrams[entry++] = numbers;
+            }
+            int[][] lists = new int[trigramNumbers.size()][];
+            for (int number = 0; number < lists.length; number++) {
+                lists[number] = new int[listSizes[number]];
+            }
+            int[] fill = new int[lists.length];
+            int[] trigramCounts = new int[entries.size()];
+            // Entries are added in ID order, so every posting list comes out sorted
+            for (entry = 0; entry < entryTrigrams.length; entry++) {
+                trigramCounts[entry] = entryTrigrams[entry].length;
+                for (int number : entryTrigrams[entry]) {
+                    lists[number][fill[number]++] = entry;
+                }
+            }
+            Map<Long, int[]> postings = new HashMap<>(lists.length * 2);
+            for (int number = 0; number < lists.length; number++) {
+                postings.put(trigramValues[number], lists[number]);
+            }
+            return new ProductNameIndex(productIds, trigramCounts, postings);
+        }
+    }
+}
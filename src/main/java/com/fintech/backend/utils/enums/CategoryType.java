@@ -0,0 +1,35 @@
+package com.fintech.backend.utils.enums;
+
+import java.util.List;
+
+/**
+ * The transaction categories seeded into the {@code categories} table, with the IDs they are stored under and the
+ * other names they go by, such as the labels receipt analysis tends to return.
+ */
+public enum CategoryType {
+    FOOD("CAT-XXX1", "Restaurant", "Restaurants", "Dining", "Cafe", "Food & Drink", "Food and Beverage"),
+    TRANSPORT("CAT-XXX2", "Transportation", "Travel", "Fuel", "Petrol", "Taxi", "Cab"),
+    MEDICINE("CAT-XXX3", "Medical", "Medicines", "Pharmacy", "Health", "Healthcare"),
+    GROCERIES("CAT-XXX4", "Grocery", "Supermarket", "Provisions"),
+    RENT("CAT-XXX5", "Housing"),
+    INSURANCE("CAT-XXX6"),
+    SUBSCRIPTIONS("CAT-XXX7", "Subscription", "Streaming"),
+    ENTERTAINMENT("CAT-XXX8", "Movies", "Cinema", "Events"),
+    OTHER("CAT-XXX0", "Others", "Miscellaneous", "Misc");
+
+    private final String categoryId;
+    private final List<String> aliases;
+
+    CategoryType(String categoryId, String... aliases) {
+        this.categoryId = categoryId;
+        this.aliases = List.of(aliases);
+    }
+
+    public String categoryId() {
+        return categoryId;
+    }
+
+    public List<String> aliases() {
+        return aliases;
+    }
+}
@@ -0,0 +1,41 @@
+package com.fintech.backend.utils.enums;
+
+import java.util.Locale;
+
+/**
+ * Formats a user's transactions can be exported in, with the media type and file extension of each.
+ */
+public enum ExportFormat {
+    /** One transaction per line, as the JSON returned by the transactions API, with its items nested. */
+    NDJSON("application/x-ndjson", "ndjson"),
+    /** One row per item, the transaction's columns repeated on each; a transaction without items gets one row. */
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    ExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * Returns the format with the given name, ignoring case; {@code null} or blank means {@link #NDJSON}.
+     *
+     * @throws IllegalArgumentException if no format has that name
+     */
+    public static ExportFormat of(String name) {
+        if (name == null || name.isBlank()) {
+            return NDJSON;
+        }
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+}
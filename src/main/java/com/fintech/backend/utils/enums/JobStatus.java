@@ -0,0 +1,8 @@
+package com.fintech.backend.utils.enums;
+
+public enum JobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,186 @@
+package com.fintech.backend.utils.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Immutable uniform grid over points given by latitude and longitude, answering nearest-N queries.
+ *
+ * <p>Points are projected onto a plane in kilometres around their mean latitude and bucketed into square cells of
+ * {@code cellKm}. A query visits rings of cells around its own cell, nearest ring first and clipped to the cells
+ * that hold points, and stops once the ring about to be visited cannot hold anything closer than the N-th point
+ * found so far. Distances are great-circle distances; the flat projection only decides which cells to visit, which
+ * is accurate enough at city scale.</p>
+ */
+public final class GeoGrid {
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE_LATITUDE = 110.574;
+    private static final double KM_PER_DEGREE_LONGITUDE = 111.320;
+    // Allowance for the flat projection when deciding that no closer point is left
+    private static final double PROJECTION_SLACK = 0.99;
+
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final double cellKm;
+    private final double longitudeScale;
+    private final Map<Long, int[]> cells;
+    private final int minColumn;
+    private final int maxColumn;
+    private final int minRow;
+    private final int maxRow;
+
+    private GeoGrid(double[] latitudes, double[] longitudes, double cellKm) {
+        this.latitudes = latitudes.clone();
+        this.longitudes = longitudes.clone();
+        this.cellKm = cellKm;
+        double meanLatitude = Arrays.stream(latitudes).average().orElse(0);
+        this.longitudeScale = KM_PER_DEGREE_LONGITUDE * Math.cos(Math.toRadians(meanLatitude));
+
+        Map<Long, List<Integer>> points = new HashMap<>();
+        int minColumn = Integer.MAX_VALUE, maxColumn = Integer.MIN_VALUE, minRow = Integer.MAX_VALUE, maxRow = Integer.MIN_VALUE;
+        for (int point = 0; point < latitudes.length; point++) {
+            int column = column(longitudes[point]);
+            int row = row(latitudes[point]);
+            points.computeIfAbsent(cell(column, row), key -> new ArrayList<>()).add(point);
+            minColumn = Math.min(minColumn, column);
+            maxColumn = Math.max(maxColumn, column);
+            minRow = Math.min(minRow, row);
+            maxRow = Math.max(maxRow, row);
+        }
+        this.cells = new HashMap<>(points.size() * 2);
+        points.forEach((cell, list) -> cells.put(cell, list.stream().mapToInt(Integer::intValue).toArray()));
+        this.minColumn = minColumn;
+        this.maxColumn = maxColumn;
+        this.minRow = minRow;
+        this.maxRow = maxRow;
+    }
+
+    /**
+     * Builds a grid over the points {@code (latitudes[i], longitudes[i])}; query results refer to points by
+     * {@code i}.
+     */
+    public static GeoGrid of(double[] latitudes, double[] longitudes, double cellKm) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("Got " + latitudes.length + " latitudes and " + longitudes.length + " longitudes");
+        }
+        if (cellKm <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive, got " + cellKm);
+        }
+        return new GeoGrid(latitudes, longitudes, cellKm);
+    }
+
+    public int size() {
+        return latitudes.length;
+    }
+
+    /**
+     * Returns up to {@code limit} points closest to the given position, nearest first; points at the same distance
+     * are ordered by index.
+     */
+    public List<Neighbour> nearest(double latitude, double longitude, int limit) {
+        if (limit <= 0 || latitudes.length == 0) {
+            return List.of();
+        }
+        Comparator<Neighbour> nearestFirst = Comparator.comparingDouble(Neighbour::distanceKm)
+                .thenComparingInt(Neighbour::point);
+        // Farthest kept neighbour on top, so it is the one replaced by a closer point
+        PriorityQueue<Neighbour> kept = new PriorityQueue<>(limit + 1, nearestFirst.reversed());
+
+        int column = column(longitude);
+        int row = row(latitude);
+        int firstRing = Math.max(Math.max(minColumn - column, column - maxColumn), Math.max(minRow - row, row - maxRow));
+        int lastRing = Math.max(Math.max(column - minColumn, maxColumn - column), Math.max(row - minRow, maxRow - row));
+        for (int ring = Math.max(0, firstRing); ring <= lastRing; ring++) {
+            if (kept.size() == limit && kept.peek().distanceKm() <= (ring - 1) * cellKm * PROJECTION_SLACK) {
+                break;
+            }
+            visitRing(column, row, ring, latitude, longitude, limit, kept);
+        }
+
+        List<Neighbour> nearest = new ArrayList<>(kept);
+        nearest.sort(nearestFirst);
+        return nearest;
+    }
+
+    // Visits the cells at Chebyshev distance ring from (column, row) that lie within the occupied bounds
+    private void visitRing(int column, int row, int ring, double latitude, double longitude, int limit,
+                           PriorityQueue<Neighbour> kept) {
+        int fromColumn = Math.max(column - ring, minColumn);
+        int toColumn = Math.min(column + ring, maxColumn);
+        int fromRow = Math.max(row - ring + 1, minRow);
+        int toRow = Math.min(row + ring - 1, maxRow);
+        for (int edgeRow : ring == 0 ? new int[]{row} : new int[]{row - ring, row + ring}) {
+            if (edgeRow < minRow || edgeRow > maxRow) {
+                continue;
+            }
+            for (int c = fromColumn; c <= toColumn; c++) {
+                visitCell(c, edgeRow, latitude, longitude, limit, kept);
+            }
+        }
+        if (ring == 0) {
+            return;
+        }
+        for (int edgeColumn : new int[]{column - ring, column + ring}) {
+            if (edgeColumn < minColumn || edgeColumn > maxColumn) {
+                continue;
+            }
+            for (int r = fromRow; r <= toRow; r++) {
+                visitCell(edgeColumn, r, latitude, longitude, limit, kept);
+            }
+        }
+    }
+
+    private void visitCell(int column, int row, double latitude, double longitude, int limit,
+                           PriorityQueue<Neighbour> kept) {
+        int[] points = cells.get(cell(column, row));
+        if (points == null) {
+            return;
+        }
+        for (int point : points) {
+            double distance = distanceKm(latitude, longitude, latitudes[point], longitudes[point]);
+            if (kept.size() < limit) {
+                kept.add(new Neighbour(point, distance));
+            } else if (distance < kept.peek().distanceKm()
+                    || (distance == kept.peek().distanceKm() && point < kept.peek().point())) {
+                kept.poll();
+                kept.add(new Neighbour(point, distance));
+            }
+        }
+    }
+
+    private int column(double longitude) {
+        return (int) Math.floor(longitude * longitudeScale / cellKm);
+    }
+
+    private int row(double latitude) {
+        return (int) Math.floor(latitude * KM_PER_DEGREE_LATITUDE / cellKm);
+    }
+
+    private static long cell(int column, int row) {
+        return ((long) column << 32) | (row & 0xffffffffL);
+    }
+
+    /**
+     * Great-circle distance between two positions in kilometres (haversine formula).
+     */
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double dLatitude = Math.toRadians(latitude2 - latitude1);
+        double dLongitude = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(dLatitude / 2) * Math.sin(dLatitude / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(dLongitude / 2) * Math.sin(dLongitude / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * @param point      index of the point as passed to {@link #of}
+     * @param distanceKm great-circle distance from the queried position
+     */
+    public record Neighbour(int point, double distanceKm) {
+    }
+}
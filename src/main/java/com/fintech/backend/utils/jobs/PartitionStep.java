@@ -0,0 +1,31 @@
+package com.fintech.backend.utils.jobs;
+
+/**
+ * One unit of work of a partitioned job, called repeatedly until the partition is exhausted.
+ *
+ * <p>Each call must commit its own work and be safe to repeat: after a crash the partition is resumed
+ * from the last checkpoint, so the chunk that was in flight may be processed again.</p>
+ */
+@FunctionalInterface
+public interface PartitionStep {
+
+    /**
+     * Processes the next chunk of keys {@code k} with {@code afterKey < k <= upToKey}.
+     *
+     * @param afterKey the last key already processed in this partition
+     * @param upToKey  the inclusive upper bound of the partition
+     * @return what was processed; {@link Chunk#done(int)} once no keys remain
+     */
+    Chunk process(long afterKey, long upToKey);
+
+    /**
+     * @param rows    rows written by the chunk, summed into the run history
+     * @param lastKey the last key processed, stored as the partition checkpoint; {@code null} when exhausted
+     */
+    record Chunk(int rows, Long lastKey) {
+
+        public static Chunk done(int rows) {
+            return new Chunk(rows, null);
+        }
+    }
+}
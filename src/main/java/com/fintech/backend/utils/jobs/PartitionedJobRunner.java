@@ -0,0 +1,202 @@
+package com.fintech.backend.utils.jobs;
+
+import com.fintech.backend.models.JobPartitions;
+import com.fintech.backend.models.JobRuns;
+import com.fintech.backend.repository.JobPartitionsRepository;
+import com.fintech.backend.repository.JobRunsRepository;
+import com.fintech.backend.utils.enums.JobStatus;
+import com.fintech.backend.utils.metrics.MetricsRecorder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs scheduled jobs safely when several application instances fire the same cron.
+ *
+ * <p>A job run is identified by its name and a period (e.g. {@code 2025-11}). The first node to reach
+ * a period splits the key space into ranges of {@code finwise.jobs.partition-size} keys stored in
+ * {@code job_partitions}; the last range is open-ended so keys created later are still covered.
+ * Worker threads on every node then claim partitions under a time-limited lease, process them
+ * chunk by chunk and store a checkpoint after each chunk. A partition whose owner dies is picked up
+ * again once its lease expires and resumes from that checkpoint. Each invocation that finds work is
+ * recorded in {@code job_runs} with its duration and row count.</p>
+ */
+@Slf4j
+@Component
+public class PartitionedJobRunner {
+    private static final long OPEN_END = Long.MAX_VALUE;
+
+    private final JobPartitionsRepository partitionsRepository;
+    private final JobRunsRepository runsRepository;
+    private final MetricsRecorder metrics;
+    private final String nodeId;
+    private final int workerThreads;
+    private final long partitionSize;
+    private final Duration leaseDuration;
+
+    public PartitionedJobRunner(JobPartitionsRepository partitionsRepository,
+                                JobRunsRepository runsRepository,
+                                MetricsRecorder metrics,
+                                @Value("${finwise.jobs.node-id:local}") String nodeId,
+                                @Value("${finwise.jobs.worker-threads:4}") int workerThreads,
+                                @Value("${finwise.jobs.partition-size:10000}") long partitionSize,
+                                @Value("${finwise.jobs.lease-duration:5m}") Duration leaseDuration) {
+        this.partitionsRepository = partitionsRepository;
+        this.runsRepository = runsRepository;
+        this.metrics = metrics;
+        // Suffix keeps two processes on the same host from sharing leases
+        this.nodeId = nodeId + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.workerThreads = workerThreads;
+        this.partitionSize = partitionSize;
+        this.leaseDuration = leaseDuration;
+    }
+
+    /**
+     * Runs {@code jobName} for {@code period} on this node until no partition is left to claim.
+     *
+     * <p>When the period is already planned, no partition is claimable and {@code maxKey} has not moved past the
+     * tail's checkpoint, there is nothing to do: the run is skipped and not recorded, so frequent catch-up runs do
+     * not fill {@code job_runs}.</p>
+     *
+     * @param jobName the job name, also used as the {@code job} metric tag
+     * @param period  the period the run belongs to; partitions are planned once per period
+     * @param maxKey  the highest key that currently exists, used to plan the partitions
+     * @param step    the work to do per chunk of keys
+     * @return the recorded run, or empty if the run was skipped
+     */
+    public Optional<JobRuns> run(String jobName, String period, long maxKey, PartitionStep step) {
+        Instant startedAt = Instant.now();
+        AtomicReference<String> error = new AtomicReference<>();
+        try {
+            if (!plan(jobName, period, maxKey)) {
+                metrics.increment("scheduler.job.skipped", "job", jobName);
+                log.debug("Job {} for {} has nothing left to do, skipping", jobName, period);
+                return Optional.empty();
+            }
+        } catch (Exception e) {
+            error.set(e.getMessage());
+            log.error("Job {} for {} failed. Error: {}", jobName, period, e.getMessage(), e);
+        }
+
+        JobRuns run = new JobRuns();
+        run.setJobName(jobName);
+        run.setPeriod(period);
+        run.setNode(nodeId);
+        run.setStartedAt(startedAt);
+        run.setStatus(JobStatus.RUNNING);
+        run = runsRepository.save(run);
+
+        AtomicLong rows = new AtomicLong();
+        AtomicInteger partitions = new AtomicInteger();
+        if (error.get() == null) {
+            try (ExecutorService workers = Executors.newFixedThreadPool(workerThreads)) {
+                for (int i = 0; i < workerThreads; i++) {
+                    String owner = nodeId + "/" + i;
+                    workers.submit(() -> work(jobName, period, owner, step, rows, partitions, error));
+                }
+            } catch (Exception e) {
+                error.compareAndSet(null, e.getMessage());
+                log.error("Job {} for {} failed. Error: {}", jobName, period, e.getMessage(), e);
+            }
+        }
+
+        run.setFinishedAt(Instant.now());
+        run.setDurationMs(Duration.between(run.getStartedAt(), run.getFinishedAt()).toMillis());
+        run.setRowsProcessed(rows.get());
+        run.setPartitionsProcessed(partitions.get());
+        run.setStatus(error.get() == null ? JobStatus.COMPLETED : JobStatus.FAILED);
+        run.setError(error.get() == null ? null : truncate(error.get()));
+        metrics.record("scheduler.job.rows", rows.get(), "job", jobName);
+        log.info("Job {} for {} finished on {}: {} partitions, {} rows in {} ms ({})", jobName, period, nodeId,
+                run.getPartitionsProcessed(), run.getRowsProcessed(), run.getDurationMs(), run.getStatus());
+        return Optional.of(runsRepository.save(run));
+    }
+
+    /**
+     * Plans the period's partitions, or re-opens its tail if keys were added since, and returns whether any
+     * partition may be left to claim.
+     */
+    private boolean plan(String jobName, String period, long maxKey) {
+        if (partitionsRepository.existsByJobNameAndPeriod(jobName, period)) {
+            int reopened = partitionsRepository.reopenTail(jobName, period, OPEN_END, maxKey,
+                    JobStatus.PENDING, JobStatus.COMPLETED);
+            return reopened > 0 || !partitionsRepository.findClaimable(jobName, period, JobStatus.COMPLETED,
+                    Instant.now(), Limit.of(1)).isEmpty();
+        }
+        List<JobPartitions> plan = new ArrayList<>();
+        long start = 0L;
+        while (start + partitionSize < maxKey) {
+            plan.add(new JobPartitions(jobName, period, start, start + partitionSize));
+            start += partitionSize;
+        }
+        plan.add(new JobPartitions(jobName, period, start, OPEN_END));
+        try {
+            partitionsRepository.saveAll(plan);
+            log.info("Planned {} partitions for job {} ({})", plan.size(), jobName, period);
+        } catch (DataIntegrityViolationException e) {
+            // Every plan starts at key 0, so the unique constraint lets exactly one node's plan win
+            log.info("Job {} ({}) already planned by another node", jobName, period);
+        }
+        return true;
+    }
+
+    private void work(String jobName, String period, String owner, PartitionStep step,
+                      AtomicLong rows, AtomicInteger partitions, AtomicReference<String> error) {
+        JobPartitions partition;
+        while ((partition = claimNext(jobName, period, owner)) != null) {
+            long checkpoint = partition.getCheckpoint();
+            try {
+                while (true) {
+                    PartitionStep.Chunk chunk = step.process(checkpoint, partition.getRangeEnd());
+                    rows.addAndGet(chunk.rows());
+                    if (chunk.lastKey() == null) {
+                        partitionsRepository.complete(partition.getPartitionId(), owner, chunk.rows(), JobStatus.COMPLETED);
+                        partitions.incrementAndGet();
+                        break;
+                    }
+                    checkpoint = chunk.lastKey();
+                    if (partitionsRepository.advance(partition.getPartitionId(), owner, checkpoint, chunk.rows(),
+                            Instant.now().plus(leaseDuration)) == 0) {
+                        log.warn("Lease on partition {} of job {} lost by {}", partition.getPartitionId(), jobName, owner);
+                        break;
+                    }
+                }
+            } catch (Exception e) {
+                metrics.increment("scheduler.job.failures", "job", jobName);
+                error.compareAndSet(null, e.getMessage());
+                log.error("Partition {} of job {} failed at key {}. Error: {}",
+                        partition.getPartitionId(), jobName, checkpoint, e.getMessage(), e);
+                partitionsRepository.fail(partition.getPartitionId(), owner, Instant.now().plus(leaseDuration), JobStatus.FAILED);
+            }
+        }
+    }
+
+    private JobPartitions claimNext(String jobName, String period, String owner) {
+        Instant now = Instant.now();
+        for (Long partitionId : partitionsRepository.findClaimable(jobName, period, JobStatus.COMPLETED, now, Limit.of(workerThreads))) {
+            if (partitionsRepository.claim(partitionId, owner, now, now.plus(leaseDuration),
+                    JobStatus.RUNNING, JobStatus.COMPLETED) == 1) {
+                return partitionsRepository.findById(partitionId).orElse(null);
+            }
+        }
+        return null;
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= 1000 ? message : message.substring(0, 1000);
+    }
+}
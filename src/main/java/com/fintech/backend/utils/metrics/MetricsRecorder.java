@@ -0,0 +1,110 @@
+package com.fintech.backend.utils.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Thin wrapper around the {@link MeterRegistry} used by the services to record
+ * timers, counters and distribution summaries with a consistent naming scheme.
+ *
+ * <p>All meter names are prefixed with {@code finwise.}; tags are passed as key/value pairs.</p>
+ */
+@Component
+public class MetricsRecorder {
+
+    private static final String PREFIX = "finwise.";
+
+    private final MeterRegistry registry;
+    private final Map<String, CacheCounts> cacheCounts = new ConcurrentHashMap<>();
+
+    public MetricsRecorder(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Times the given action under {@code finwise.<name>}.
+     *
+     * @param name   the meter name without prefix
+     * @param action the code to time
+     * @param tags   key/value tag pairs
+     * @return the value returned by the action
+     */
+    public <T> T time(String name, Supplier<T> action, String... tags) {
+        return Timer.builder(PREFIX + name).tags(tags).register(registry).record(action);
+    }
+
+    /**
+     * Times the given action under {@code finwise.<name>}.
+     *
+     * @param name   the meter name without prefix
+     * @param action the code to time
+     * @param tags   key/value tag pairs
+     */
+    public void time(String name, Runnable action, String... tags) {
+        Timer.builder(PREFIX + name).tags(tags).register(registry).record(action);
+    }
+
+    /**
+     * Records an already measured duration under {@code finwise.<name>}.
+     */
+    public void time(String name, Duration duration, String... tags) {
+        Timer.builder(PREFIX + name).tags(tags).register(registry).record(duration);
+    }
+
+    /**
+     * Starts a timer sample, to be finished with {@link #stop(Timer.Sample, String, String...)}
+     * when the timed section does not fit in a lambda.
+     */
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    public void stop(Timer.Sample sample, String name, String... tags) {
+        sample.stop(Timer.builder(PREFIX + name).tags(tags).register(registry));
+    }
+
+    public void increment(String name, String... tags) {
+        registry.counter(PREFIX + name, tags).increment();
+    }
+
+    public void record(String name, double amount, String... tags) {
+        DistributionSummary.builder(PREFIX + name).tags(tags).register(registry).record(amount);
+    }
+
+    /**
+     * Counts a cache lookup under {@code finwise.cache.requests}, tagged with the cache and {@code hit} or
+     * {@code miss}, and keeps the gauge {@code finwise.cache.hit.ratio} of the cache at the share of its lookups
+     * since startup that were hits.
+     */
+    public void cacheRequest(String cache, boolean hit) {
+        increment("cache.requests", "cache", cache, "result", hit ? "hit" : "miss");
+        CacheCounts counts = cacheCounts.computeIfAbsent(cache, name -> {
+            CacheCounts registered = new CacheCounts();
+            Gauge.builder(PREFIX + "cache.hit.ratio", registered, CacheCounts::hitRatio)
+                    .tag("cache", name)
+                    .register(registry);
+            return registered;
+        });
+        (hit ? counts.hits : counts.misses).increment();
+    }
+
+    private static final class CacheCounts {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        double hitRatio() {
+            long hitCount = hits.sum();
+            long total = hitCount + misses.sum();
+            return total == 0 ? 0 : (double) hitCount / total;
+        }
+    }
+}
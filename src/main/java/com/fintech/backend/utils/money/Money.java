@@ -0,0 +1,41 @@
+package com.fintech.backend.utils.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An amount of Indian rupees held as a whole number of paise.
+ *
+ * <p>Entities store money as {@code long} paise and services sum those primitives directly, so aggregation
+ * neither boxes nor accumulates floating-point error. The API keeps exchanging rupees as decimals; convert at
+ * the boundary with {@link #toPaise(Double)} and {@link #toRupees(long)}, or format an amount with two decimals
+ * through {@link #ofPaise(long)}.</p>
+ */
+public record Money(long paise) {
+
+    private static final int PAISE_SCALE = 2;
+
+    public static Money ofPaise(long paise) {
+        return new Money(paise);
+    }
+
+    /**
+     * Converts a rupee amount to paise, rounding half up on its decimal representation so that e.g.
+     * {@code 1.005} becomes {@code 101}. {@code null} is treated as zero.
+     */
+    public static long toPaise(Double rupees) {
+        if (rupees == null) {
+            return 0L;
+        }
+        return BigDecimal.valueOf(rupees).setScale(PAISE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static double toRupees(long paise) {
+        return paise / 100.0;
+    }
+
+    @Override
+    public String toString() {
+        return BigDecimal.valueOf(paise, PAISE_SCALE).toPlainString();
+    }
+}
@@ -0,0 +1,111 @@
+package com.fintech.backend.loadtest;
+
+import com.fintech.backend.models.ProductPrices;
+import com.fintech.backend.models.Products;
+import com.fintech.backend.repository.ChainRepository;
+import com.fintech.backend.repository.ProductPricesRepository;
+import com.fintech.backend.repository.ProductsRepository;
+import com.fintech.backend.utils.catalogue.CatalogueBulkLoader;
+import com.fintech.backend.utils.money.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Loads a synthetic product catalogue of {@code benchmark.catalogue.products} lines through
+ * {@link CatalogueBulkLoader}, and a smaller sample the way the seeder used to: three chain lookups per line
+ * followed by {@code saveAll} of the entities. Both rates are written to
+ * {@code target/catalogue-load-benchmark.txt}.
+ */
+@Slf4j
+@Tag("loadtest")
+@ActiveProfiles("loadtest")
+@Import(LoadTestConfig.class)
+@SpringBootTest
+class CatalogueBulkLoadBenchmarkTests {
+
+    @Value("${benchmark.catalogue.products:50000}")
+    private int products;
+
+    @Value("${benchmark.catalogue.entity-products:2000}")
+    private int entityProducts;
+
+    @Autowired
+    private CatalogueBulkLoader loader;
+
+    @Autowired
+    private ProductsRepository productsRepository;
+
+    @Autowired
+    private ProductPricesRepository productPricesRepository;
+
+    @Autowired
+    private ChainRepository chainRepository;
+
+    @Test
+    void benchmark() throws Exception {
+        Path csv = Path.of("target/catalogue-benchmark.csv");
+        writeCatalogue(csv, products);
+
+        long productsBefore = productsRepository.count();
+        CatalogueBulkLoader.LoadResult bulk = loader.loadProducts(new FileSystemResource(csv));
+        assertEquals(products, productsRepository.count() - productsBefore);
+        assertEquals(products * (1L + CatalogueBulkLoader.PRICE_CHAINS.size()), bulk.rows());
+
+        long start = System.nanoTime();
+        int entityRows = loadAsEntities(entityProducts);
+        double entityRowsPerSecond = entityRows * 1e9 / (System.nanoTime() - start);
+
+        String report = String.format(Locale.ROOT, "%-28s %10s %14s%n", "path", "rows", "rows/s")
+                + String.format(Locale.ROOT, "%-28s %10d %14.0f%n", "JDBC batch (bulk loader)", bulk.rows(), bulk.rowsPerSecond())
+                + String.format(Locale.ROOT, "%-28s %10d %14.0f%n", "per-line lookups + saveAll", entityRows, entityRowsPerSecond);
+        log.info("Catalogue load benchmark:\n{}", report);
+        Path reportFile = Path.of("target/catalogue-load-benchmark.txt");
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        Files.writeString(reportFile, report);
+    }
+
+    private int loadAsEntities(int count) {
+        List<Products> entities = new ArrayList<>();
+        List<ProductPrices> prices = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Products product = new Products("Staples", "Entity Product " + i, "Brand", "1 kg", "Regular");
+            entities.add(product);
+            for (String chain : CatalogueBulkLoader.PRICE_CHAINS) {
+                prices.add(new ProductPrices(product, chainRepository.findByChainName(chain), Money.toPaise(99.5), LocalDate.now()));
+            }
+        }
+        productsRepository.saveAll(entities);
+        productPricesRepository.saveAll(prices);
+        return entities.size() + prices.size();
+    }
+
+    private static void writeCatalogue(Path csv, int count) throws Exception {
+        Files.createDirectories(csv.toAbsolutePath().getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(csv)) {
+            writer.write("Category,Product Name,Brand,Unit/Quantity,Variant/Offer Type,DMart Price ,Star Bazaar Price ,Reliance SMART Price");
+            writer.newLine();
+            for (int i = 0; i < count; i++) {
+                writer.write("Staples,\"Bulk Product " + i + ", Large\",Brand " + (i % 50) + ",1 kg,Regular Offer,"
+                        + (100 + i % 400) + "," + (101.5 + i % 400) + "," + (99.25 + i % 400));
+                writer.newLine();
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.fintech.backend.loadtest;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Stand-in for the Gemini model used by {@code ReceiptAnalyzerService}.
+ *
+ * <p>Sleeps for a configurable latency to mimic the remote call, then answers with a
+ * canned receipt whose bill number is unique per call so every analysis creates a new transaction.</p>
+ */
+public class FakeReceiptChatModel implements ChatModel {
+
+    private static final String RECEIPT_TEMPLATE = """
+            {
+              "title": "Grocery Run",
+              "category": "GROCERIES",
+              "description": "Weekly groceries",
+              "transactionItems": [
+                {"productName": "Milk Packet", "totalPrice": 60.0, "quantity": 2, "pricePerItem": 30.0},
+                {"productName": "Bread Loaf", "totalPrice": 45.0, "quantity": 1, "pricePerItem": 45.0}
+              ],
+              "paymentMethod": "Cash",
+              "paymentAmount": 100.0,
+              "date": "%s",
+              "time": "10:15:00",
+              "status": "COMPLETE",
+              "isExpense": true,
+              "transactionId": "%s"
+            }
+            """;
+
+    private final Duration latency;
+
+    public FakeReceiptChatModel(Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        String json = RECEIPT_TEMPLATE.formatted(LocalDate.now(), "BILL-" + UUID.randomUUID());
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(json))));
+    }
+}
@@ -0,0 +1,16 @@
+package com.fintech.backend.loadtest;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * H2 dialect for the load-test profile. H2's PostgreSQL mode rejects the {@code blob} type,
+ * so {@code @Lob byte[]} columns are created as {@code bytea} like they are on PostgreSQL.
+ */
+public class H2PostgresModeDialect extends H2Dialect {
+
+    @Override
+    protected String columnType(int sqlTypeCode) {
+        return sqlTypeCode == SqlTypes.BLOB ? "bytea" : super.columnType(sqlTypeCode);
+    }
+}
@@ -0,0 +1,87 @@
+package com.fintech.backend.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects per-endpoint latency samples from all virtual users and renders a percentile report.
+ */
+public class LatencyRecorder {
+
+    private final Map<String, Samples> samplesByEndpoint = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long latencyNanos, boolean success) {
+        samplesByEndpoint.computeIfAbsent(endpoint, k -> new Samples()).add(latencyNanos, success);
+    }
+
+    public long totalRequests() {
+        return samplesByEndpoint.values().stream().mapToLong(Samples::count).sum();
+    }
+
+    /**
+     * Builds a fixed-width table with count, errors, throughput and p50/p95/p99 per endpoint.
+     *
+     * @param elapsedNanos wall-clock duration of the run, used for throughput
+     * @return the formatted report
+     */
+    public String report(long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "%-22s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+        samplesByEndpoint.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    long[] sorted = entry.getValue().sorted();
+                    sb.append(String.format(Locale.ROOT, "%-22s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                            entry.getKey(),
+                            sorted.length,
+                            entry.getValue().errors.get(),
+                            sorted.length / seconds,
+                            percentile(sorted, 50),
+                            percentile(sorted, 95),
+                            percentile(sorted, 99),
+                            sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1_000_000.0));
+                });
+        sb.append(String.format(Locale.ROOT, "total %d requests in %.1f s (%.1f req/s)%n",
+                totalRequests(), seconds, totalRequests() / seconds));
+        return sb.toString();
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static final class Samples {
+        private long[] values = new long[1024];
+        private int size;
+        private final AtomicLong errors = new AtomicLong();
+
+        synchronized void add(long latencyNanos, boolean success) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = latencyNanos;
+            if (!success) {
+                errors.incrementAndGet();
+            }
+        }
+
+        synchronized long count() {
+            return size;
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
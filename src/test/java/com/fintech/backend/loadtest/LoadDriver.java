@@ -0,0 +1,238 @@
+package com.fintech.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client side of the load harness: runs virtual users against a started application and
+ * records every call in a {@link LatencyRecorder}.
+ *
+ * <p>Virtual users run on client-side virtual threads so that the driver itself never
+ * limits the concurrency offered to the server.</p>
+ */
+@Slf4j
+public class LoadDriver implements AutoCloseable {
+
+    private static final List<Map<String, Object>> PRICE_BASKET = List.of(
+            Map.of("productName", "Sugar", "quantity", 2),
+            Map.of("productName", "Moong Dal", "quantity", 1),
+            Map.of("productName", "Ghee Pure", "quantity", 1),
+            Map.of("productName", "Milk Packet", "quantity", 3));
+
+    // Smallest valid PNG, enough to pass the image/* content-type check of upload-analyze
+    private static final byte[] RECEIPT_IMAGE = Base64.getDecoder().decode(
+            "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==");
+
+    private final int port;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final RestClient client;
+    private final Map<Long, Queue<Long>> pendingPushes = new ConcurrentHashMap<>();
+    private final List<StompSession> sessions = new ArrayList<>();
+    private WebSocketStompClient stompClient;
+
+    public LoadDriver(int port, ObjectMapper objectMapper) {
+        this.port = port;
+        this.objectMapper = objectMapper;
+        this.client = RestClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .requestFactory(new JdkClientHttpRequestFactory())
+                .build();
+    }
+
+    public RestClient client() {
+        return client;
+    }
+
+    public LatencyRecorder recorder() {
+        return recorder;
+    }
+
+    /**
+     * Opens one STOMP session per user subscribed to its transaction topic; pushes that follow a
+     * {@code transaction-create} call are recorded as {@code stomp-push}.
+     */
+    public void subscribeToTransactions(List<Long> userIds) throws Exception {
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new StringMessageConverter());
+        for (Long userId : userIds) {
+            long begin = System.nanoTime();
+            StompSession session = stompClient
+                    .connectAsync("ws://localhost:" + port + "/ws", new StompSessionHandlerAdapter() {
+                    })
+                    .get(10, TimeUnit.SECONDS);
+            recorder.record("stomp-connect", System.nanoTime() - begin, true);
+            session.subscribe("/topic/transactions/" + userId, new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return String.class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    Queue<Long> pending = pendingPushes.get(userId);
+                    Long sentAt = pending == null ? null : pending.poll();
+                    if (sentAt != null) {
+                        recorder.record("stomp-push", System.nanoTime() - sentAt, true);
+                    }
+                }
+            });
+            sessions.add(session);
+        }
+    }
+
+    /**
+     * Runs {@code virtualUsers} concurrent users for {@code duration}, each repeatedly picking a
+     * scenario from the weighted mix for a seeded user.
+     *
+     * @return the wall-clock duration of the run in nanoseconds
+     */
+    public long run(List<Long> userIds, Map<String, Integer> weights, int virtualUsers,
+                    Duration duration, Duration thinkTime) throws InterruptedException {
+        List<String> mix = weightedMix(weights);
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int vu = 0; vu < virtualUsers; vu++) {
+                Long userId = userIds.get(vu % userIds.size());
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        String scenario = mix.get(ThreadLocalRandom.current().nextInt(mix.size()));
+                        execute(scenario, userId);
+                        sleepQuietly(thinkTime.toMillis());
+                    }
+                });
+            }
+            executor.shutdown();
+            executor.awaitTermination(duration.toMillis() + 60_000, TimeUnit.MILLISECONDS);
+        }
+        return System.nanoTime() - start;
+    }
+
+    @Override
+    public void close() {
+        sessions.forEach(StompSession::disconnect);
+        if (stompClient != null) {
+            stompClient.stop();
+        }
+    }
+
+    private void execute(String scenario, Long userId) {
+        long begin = System.nanoTime();
+        boolean success = true;
+        try {
+            switch (scenario) {
+                case "transactions-list" -> client.get().uri("/api/transactions/user/{id}", userId)
+                        .retrieve().toBodilessEntity();
+                case "transaction-create" -> {
+                    pendingPushes.computeIfAbsent(userId, k -> new ConcurrentLinkedQueue<>()).add(begin);
+                    client.post().uri("/api/transactions/{userId}", userId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(objectMapper.writeValueAsString(LoadTestSeeder.randomTransaction()))
+                            .retrieve().toBodilessEntity();
+                }
+                case "balance" -> client.get().uri("/api/transactions/balance/{userId}", userId)
+                        .retrieve().toBodilessEntity();
+                case "last-week-summary" -> client.get().uri("/api/transactions/{userId}/last-week-summary", userId)
+                        .retrieve().toBodilessEntity();
+                case "transactions-stream" -> client.get().uri("/api/reactive/transactions/{userId}", userId)
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .retrieve().body(String.class);
+                case "transactions-export" -> client.get().uri("/api/transactions/{userId}/export?format=csv", userId)
+                        .retrieve().body(String.class);
+                case "reactive-dashboard" -> client.get().uri("/api/reactive/dashboard/{userId}", userId)
+                        .retrieve().toBodilessEntity();
+                case "goals" -> client.get().uri("/api/goals/{userId}", userId)
+                        .retrieve().toBodilessEntity();
+                case "goals-progress" -> client.get().uri("/api/goals/progress/{userId}", userId)
+                        .retrieve().toBodilessEntity();
+                case "goal-records" -> client.get()
+                        .uri("/api/goals/records/{userId}?category={category}&size=20", userId, LoadTestSeeder.CATEGORIES.get(0))
+                        .retrieve().toBodilessEntity();
+                case "goal-history" -> client.get().uri("/api/goals/history/{userId}?months=12", userId)
+                        .retrieve().toBodilessEntity();
+                case "goals-summary" -> client.get().uri("/api/goals/summary/{userId}", userId)
+                        .retrieve().toBodilessEntity();
+                case "price-basket" -> client.post().uri("/api/prices/compare")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(objectMapper.writeValueAsString(PRICE_BASKET))
+                        .retrieve().toBodilessEntity();
+                case "savings-suggestions" -> client.get().uri("/api/prices/savings/{userId}", userId)
+                        .retrieve().toBodilessEntity();
+                case "price-history" -> client.get().uri("/api/prices/history?product=Sugar")
+                        .retrieve().toBodilessEntity();
+                case "stores-nearby" -> client.get()
+                        .uri("/api/stores/nearby?latitude=18.5204&longitude=73.8567&chain=D-Mart&limit=5")
+                        .retrieve().toBodilessEntity();
+                case "upload-analyze" -> {
+                    MultipartBodyBuilder body = new MultipartBodyBuilder();
+                    body.part("file", new ByteArrayResource(RECEIPT_IMAGE) {
+                        @Override
+                        public String getFilename() {
+                            return "receipt.png";
+                        }
+                    }).contentType(MediaType.IMAGE_PNG);
+                    client.post().uri("/api/transactions/{userId}/upload-analyze", userId)
+                            .contentType(MediaType.MULTIPART_FORM_DATA)
+                            .body(body.build())
+                            .retrieve().toBodilessEntity();
+                }
+                default -> throw new IllegalArgumentException("Unknown scenario " + scenario);
+            }
+        } catch (Exception e) {
+            success = false;
+            log.debug("Scenario {} failed for user {}: {}", scenario, userId, e.getMessage());
+        }
+        recorder.record(scenario, System.nanoTime() - begin, success);
+    }
+
+    private static List<String> weightedMix(Map<String, Integer> weights) {
+        List<String> mix = new ArrayList<>();
+        weights.forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                mix.add(scenario);
+            }
+        });
+        if (mix.isEmpty()) {
+            throw new IllegalStateException("At least one scenario needs a positive weight");
+        }
+        return mix;
+    }
+
+    private static void sleepQuietly(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.fintech.backend.loadtest;
+
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+@TestConfiguration
+@EnableConfigurationProperties(LoadTestProperties.class)
+@Import(LoadTestSeeder.class)
+public class LoadTestConfig {
+
+    @Bean
+    public ChatModel fakeReceiptChatModel(LoadTestProperties properties) {
+        return new FakeReceiptChatModel(properties.getFakeModelLatency());
+    }
+}
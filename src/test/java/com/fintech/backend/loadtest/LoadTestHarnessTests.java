@@ -0,0 +1,74 @@
+package com.fintech.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load harness. Boots the application on a random port against in-memory H2,
+ * seeds data through {@link LoadTestSeeder} and lets {@code loadtest.virtual-users} users
+ * pick weighted scenarios against the REST API for {@code loadtest.duration}. Every seeded user
+ * also holds a STOMP subscription on its transaction topic, so the time from a
+ * transaction POST to the matching push is reported as {@code stomp-push}.
+ *
+ * <p>Only runs with {@code ./mvnw test -Ploadtest}; the report is logged and written to
+ * {@code loadtest.report-file}.</p>
+ */
+@Slf4j
+@Tag("loadtest")
+@ActiveProfiles("loadtest")
+@Import(LoadTestConfig.class)
+@AutoConfigureObservability
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LoadTestHarnessTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private LoadTestProperties properties;
+
+    @Autowired
+    private LoadTestSeeder seeder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void runLoad() throws Exception {
+        List<Long> userIds = seeder.seed();
+        try (LoadDriver driver = new LoadDriver(port, objectMapper)) {
+            driver.subscribeToTransactions(userIds);
+            long elapsed = driver.run(userIds, properties.getWeights(), properties.getVirtualUsers(),
+                    properties.getDuration(), properties.getThinkTime());
+
+            LatencyRecorder recorder = driver.recorder();
+            String report = recorder.report(elapsed);
+            log.info("Load test report ({} virtual users):\n{}", properties.getVirtualUsers(), report);
+            Path reportFile = Path.of(properties.getReportFile());
+            Files.createDirectories(reportFile.toAbsolutePath().getParent());
+            Files.writeString(reportFile, report);
+
+            assertTrue(recorder.totalRequests() > 0, "No requests completed during the load run");
+            String scrape = driver.client().get().uri("/actuator/prometheus").retrieve().body(String.class);
+            assertTrue(scrape != null && scrape.contains("finwise_transaction_create_seconds"),
+                    "Service metrics missing from the Prometheus endpoint");
+            String sqlCount = driver.client().get().uri("/api/transactions/balance/{userId}", userIds.get(0))
+                    .retrieve().toBodilessEntity().getHeaders().getFirst("X-SQL-Count");
+            assertTrue(sqlCount != null && Long.parseLong(sqlCount) > 0, "X-SQL-Count header missing");
+        }
+    }
+}
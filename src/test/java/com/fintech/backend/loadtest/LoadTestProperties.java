@@ -0,0 +1,57 @@
+package com.fintech.backend.loadtest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Knobs for the load harness, bound from {@code loadtest.*} properties.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "loadtest")
+public class LoadTestProperties {
+
+    /** Number of users seeded before the run. */
+    private int users = 20;
+
+    /** Number of transactions seeded per user. */
+    private int transactionsPerUser = 25;
+
+    /** Number of concurrent virtual users driving the endpoints. */
+    private int virtualUsers = 16;
+
+    /** Length of the measured run. */
+    private Duration duration = Duration.ofSeconds(20);
+
+    /** Pause between two requests of the same virtual user. */
+    private Duration thinkTime = Duration.ZERO;
+
+    /** Simulated latency of the receipt model call. */
+    private Duration fakeModelLatency = Duration.ofMillis(250);
+
+    /** Where the latency report is written, relative to the working directory. */
+    private String reportFile = "target/loadtest-report.txt";
+
+    /** Relative weight of each scenario in the virtual-user request mix. */
+    private Map<String, Integer> weights = new LinkedHashMap<>();
+
+    /** Settings of the platform vs. virtual thread benchmark. */
+    private Benchmark benchmark = new Benchmark();
+
+    @Getter
+    @Setter
+    public static class Benchmark {
+
+        /** Concurrent clients; well above Tomcat's default 200 platform threads. */
+        private int virtualUsers = 400;
+
+        private Duration duration = Duration.ofSeconds(20);
+
+        private Map<String, Integer> weights = new LinkedHashMap<>();
+    }
+}
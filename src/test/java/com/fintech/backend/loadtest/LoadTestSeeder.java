@@ -0,0 +1,108 @@
+package com.fintech.backend.loadtest;
+
+import com.fintech.backend.dto.CategoryGoalsDto;
+import com.fintech.backend.dto.SignupDto;
+import com.fintech.backend.dto.TransactionDetailsDto;
+import com.fintech.backend.dto.TransactionItemDto;
+import com.fintech.backend.models.Products;
+import com.fintech.backend.models.Users;
+import com.fintech.backend.repository.ProductsRepository;
+import com.fintech.backend.service.GoalsService;
+import com.fintech.backend.service.Scheduler;
+import com.fintech.backend.service.TransactionsService;
+import com.fintech.backend.service.UsersService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Seeds {@code users × transactionsPerUser} rows through the regular service layer so that
+ * accounts, monthly goals, category goals and saving records look like production data.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LoadTestSeeder {
+
+    static final List<String> CATEGORIES = List.of("FOOD", "GROCERIES", "TRANSPORT", "ENTERTAINMENT");
+
+    // Catalogue names repeat across offer variants, so receipts use names that exist exactly once
+    static final List<String> ITEM_NAMES = List.of("Milk Packet", "Bread Loaf", "Eggs Tray");
+
+    private final LoadTestProperties properties;
+    private final UsersService usersService;
+    private final TransactionsService transactionsService;
+    private final GoalsService goalsService;
+    private final Scheduler scheduler;
+    private final ProductsRepository productsRepository;
+
+    /**
+     * Creates the users, their monthly saving goal with one category goal per seeded category,
+     * and the configured number of transactions per user.
+     *
+     * @return the IDs of the seeded users
+     */
+    public List<Long> seed() {
+        long start = System.nanoTime();
+        for (String itemName : ITEM_NAMES) {
+            if (productsRepository.findByProductName(itemName) == null) {
+                productsRepository.save(new Products(itemName, "pcs"));
+            }
+        }
+
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < properties.getUsers(); i++) {
+            Users user = usersService.createUser(SignupDto.builder()
+                    .fullName("Load User " + i)
+                    .email("load-user-" + i + "-" + System.nanoTime() + "@finwise.test")
+                    .phoneNumber(9_000_000_000L + i)
+                    .dateOfBirth(LocalDate.of(1995, 1, 1))
+                    .password("password")
+                    .build());
+            userIds.add(user.getUserId());
+        }
+
+        scheduler.createMonthlySavingGoals();
+        for (Long userId : userIds) {
+            for (String category : CATEGORIES) {
+                goalsService.createOrUpdateCategoryGoalForUser(userId,
+                        CategoryGoalsDto.builder().category(category).budgetedAmount(5_000.0).build());
+            }
+            for (int t = 0; t < properties.getTransactionsPerUser(); t++) {
+                transactionsService.createNewTransaction(userId, randomTransaction());
+            }
+        }
+
+        log.info("Seeded {} users x {} transactions in {} ms",
+                userIds.size(), properties.getTransactionsPerUser(), (System.nanoTime() - start) / 1_000_000);
+        return userIds;
+    }
+
+    static TransactionDetailsDto randomTransaction() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double unitPrice = random.nextInt(20, 500);
+        int quantity = random.nextInt(1, 4);
+        double total = unitPrice * quantity;
+        return TransactionDetailsDto.builder()
+                .title("Load Purchase")
+                .category(CATEGORIES.get(random.nextInt(CATEGORIES.size())))
+                .description("Generated by the load harness")
+                .transactionId("")
+                .date(LocalDate.now().withDayOfMonth(random.nextInt(1, LocalDate.now().getDayOfMonth() + 1)).toString())
+                .time("12:00:00")
+                .status("COMPLETE")
+                .paymentMethod("Card")
+                .paymentAmount(total - random.nextInt(0, 20))
+                .isExpense(true)
+                .transactionItems(List.of(TransactionItemDto.builder()
+                        .productName(ITEM_NAMES.get(random.nextInt(ITEM_NAMES.size())))
+                        .pricePerItem(unitPrice)
+                        .quantity(quantity)
+                        .totalPrice(total)
+                        .build()))
+                .build();
+    }
+}
@@ -0,0 +1,105 @@
+package com.fintech.backend.loadtest;
+
+import com.fintech.backend.utils.money.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the two ways the transaction summaries aggregate money: the old boxed {@code Double} rupee amounts
+ * ({@code mapToDouble}/{@code summingDouble}) against {@code long} paise ({@code mapToLong}/{@code summingLong}).
+ *
+ * <p>Runs each path over {@code benchmark.rows} synthetic transactions, writes the timings and the floating-point
+ * drift of the rupee totals to {@code target/money-aggregation-benchmark.txt}, and checks that the paise totals are
+ * exact. Only runs with {@code ./mvnw test -Ploadtest}.</p>
+ */
+@Slf4j
+@Tag("loadtest")
+class MoneyAggregationBenchmarkTests {
+
+    private static final List<String> CATEGORIES = List.of("FOOD", "GROCERIES", "TRANSPORT", "ENTERTAINMENT", "OTHER");
+
+    private final int rows = Integer.getInteger("benchmark.rows", 1_000_000);
+    private final int warmups = Integer.getInteger("benchmark.warmups", 5);
+    private final int iterations = Integer.getInteger("benchmark.iterations", 20);
+
+    @Test
+    void benchmark() throws Exception {
+        List<RupeeRow> rupeeRows = new ArrayList<>(rows);
+        List<PaiseRow> paiseRows = new ArrayList<>(rows);
+        long expectedTotalPaise = 0;
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < rows; i++) {
+            String category = CATEGORIES.get(random.nextInt(CATEGORIES.size()));
+            long paise = random.nextLong(100, 500_000);
+            rupeeRows.add(new RupeeRow(category, Money.toRupees(paise)));
+            paiseRows.add(new PaiseRow(category, paise));
+            expectedTotalPaise += paise;
+        }
+
+        StringBuilder report = new StringBuilder()
+                .append(String.format(Locale.ROOT, "%d rows, %d iterations after %d warm-ups%n", rows, iterations, warmups))
+                .append(String.format(Locale.ROOT, "%-26s %12s %12s%n", "path", "avg ms", "min ms"));
+
+        double doubleTotal = measure(report, "sum (Double)", () -> rupeeRows.stream()
+                .mapToDouble(RupeeRow::amount)
+                .sum());
+        long longTotal = measure(report, "sum (long paise)", () -> paiseRows.stream()
+                .mapToLong(PaiseRow::amountPaise)
+                .sum());
+        Map<String, Double> doubleByCategory = measure(report, "group by category (Double)", () -> rupeeRows.stream()
+                .collect(Collectors.groupingBy(RupeeRow::category, Collectors.summingDouble(RupeeRow::amount))));
+        Map<String, Long> longByCategory = measure(report, "group by category (long)", () -> paiseRows.stream()
+                .collect(Collectors.groupingBy(PaiseRow::category, Collectors.summingLong(PaiseRow::amountPaise))));
+
+        report.append(String.format(Locale.ROOT, "%nexact total        %s%n", Money.ofPaise(expectedTotalPaise)))
+                .append(String.format(Locale.ROOT, "Double total       %.6f (drift %.6f)%n",
+                        doubleTotal, doubleTotal - Money.toRupees(expectedTotalPaise)))
+                .append(String.format(Locale.ROOT, "long paise total   %s%n", Money.ofPaise(longTotal)));
+        log.info("Money aggregation benchmark:\n{}", report);
+        Path reportFile = Path.of("target/money-aggregation-benchmark.txt");
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        Files.writeString(reportFile, report);
+
+        assertEquals(expectedTotalPaise, longTotal);
+        assertEquals(expectedTotalPaise, longByCategory.values().stream().mapToLong(Long::longValue).sum());
+        assertEquals(doubleByCategory.keySet(), longByCategory.keySet());
+    }
+
+    private <T> T measure(StringBuilder report, String path, Supplier<T> aggregation) {
+        T result = null;
+        for (int i = 0; i < warmups; i++) {
+            result = aggregation.get();
+        }
+        long totalNanos = 0;
+        long minNanos = Long.MAX_VALUE;
+        for (int i = 0; i < iterations; i++) {
+            long begin = System.nanoTime();
+            result = aggregation.get();
+            long elapsed = System.nanoTime() - begin;
+            totalNanos += elapsed;
+            minNanos = Math.min(minNanos, elapsed);
+        }
+        report.append(String.format(Locale.ROOT, "%-26s %12.3f %12.3f%n",
+                path, totalNanos / (double) iterations / 1e6, minNanos / 1e6));
+        return result;
+    }
+
+    private record RupeeRow(String category, Double amount) {
+    }
+
+    private record PaiseRow(String category, long amountPaise) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.fintech.backend.loadtest;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadBenchmarkTests extends ThreadModeBenchmark {
+}
@@ -0,0 +1,128 @@
+package com.fintech.backend.loadtest;
+
+import com.fintech.backend.dto.BasketItemDto;
+import com.fintech.backend.dto.PriceComparisonDto;
+import com.fintech.backend.repository.ProductPricesRepository;
+import com.fintech.backend.service.PriceComparisonService;
+import com.fintech.backend.utils.metrics.MetricsRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures basket comparisons against the in-memory price matrix of {@link PriceComparisonService}.
+ *
+ * <p>Loads {@code benchmark.products} synthetic products priced at three chains, then prices
+ * {@code benchmark.baskets} random baskets of {@code benchmark.basket-size} items and writes the matrix load time and
+ * the per-basket latency to {@code target/price-comparison-benchmark.txt}. Only runs with
+ * {@code ./mvnw test -Ploadtest}.</p>
+ */
+@Slf4j
+@Tag("loadtest")
+class PriceComparisonBenchmarkTests {
+
+    private static final List<String> CHAINS = List.of("D-Mart", "Reliance Mart", "Star Bazaar");
+
+    private final int products = Integer.getInteger("benchmark.products", 100_000);
+    private final int baskets = Integer.getInteger("benchmark.baskets", 200_000);
+    private final int basketSize = Integer.getInteger("benchmark.basket-size", 20);
+
+    @Test
+    void benchmark() throws Exception {
+        SplittableRandom random = new SplittableRandom(42);
+        List<ProductPricesRepository.LatestPriceView> prices = new ArrayList<>(products * CHAINS.size());
+        for (int product = 0; product < products; product++) {
+            for (String chain : CHAINS) {
+                // Leave a few gaps so some chains cannot price every basket
+                if (random.nextInt(50) > 0) {
+                    prices.add(new PriceRow((long) product, "Product " + product, chain, random.nextLong(500, 100_000)));
+                }
+            }
+        }
+        ProductPricesRepository repository = (ProductPricesRepository) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[]{ProductPricesRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findLatestPrices")) {
+                        return prices;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        PriceComparisonService service = new PriceComparisonService(repository, new MetricsRecorder(new SimpleMeterRegistry()));
+
+        long loadBegin = System.nanoTime();
+        service.reload();
+        long loadNanos = System.nanoTime() - loadBegin;
+
+        List<List<BasketItemDto>> randomBaskets = new ArrayList<>(1_000);
+        for (int i = 0; i < 1_000; i++) {
+            List<BasketItemDto> basket = new ArrayList<>(basketSize);
+            for (int item = 0; item < basketSize; item++) {
+                basket.add(new BasketItemDto("product " + random.nextInt(products), 1 + random.nextInt(3)));
+            }
+            randomBaskets.add(basket);
+        }
+        for (int i = 0; i < baskets / 4; i++) {
+            service.compareBasket(randomBaskets.get(i % randomBaskets.size()));
+        }
+        long totalNanos = 0;
+        long[] latencies = new long[baskets];
+        PriceComparisonDto last = null;
+        for (int i = 0; i < baskets; i++) {
+            long begin = System.nanoTime();
+            last = service.compareBasket(randomBaskets.get(i % randomBaskets.size()));
+            latencies[i] = System.nanoTime() - begin;
+            totalNanos += latencies[i];
+        }
+        Arrays.sort(latencies);
+
+        String report = String.format(Locale.ROOT,
+                "%d products x %d chains, matrix load %.1f ms%n%d baskets of %d items: avg %.2f us, p50 %.2f us, p99 %.2f us%n",
+                products, CHAINS.size(), loadNanos / 1e6, baskets, basketSize,
+                totalNanos / (double) baskets / 1e3, latencies[baskets / 2] / 1e3, latencies[baskets * 99 / 100] / 1e3);
+        log.info("Price comparison benchmark:\n{}", report);
+        Path reportFile = Path.of("target/price-comparison-benchmark.txt");
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        Files.writeString(reportFile, report);
+
+        assertNotNull(last);
+        assertEquals(basketSize, last.getItems().size() + last.getUnmatched().size());
+        assertTrue(last.getSplitBasketTotal() > 0);
+    }
+
+    private record PriceRow(Long productId, String productName, String chainName, long pricePaise)
+            implements ProductPricesRepository.LatestPriceView {
+        @Override
+        public Long getProductId() {
+            return productId;
+        }
+
+        @Override
+        public String getProductName() {
+            return productName;
+        }
+
+        @Override
+        public String getChainName() {
+            return chainName;
+        }
+
+        @Override
+        public long getPricePaise() {
+            return pricePaise;
+        }
+    }
+}
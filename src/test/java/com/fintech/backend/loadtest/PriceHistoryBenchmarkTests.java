@@ -0,0 +1,89 @@
+package com.fintech.backend.loadtest;
+
+import com.fintech.backend.utils.catalogue.PriceSeries;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures the footprint and read time of {@link PriceSeries} for {@code benchmark.series} product and chain pairs,
+ * each observed daily for {@code benchmark.days} days with a price change on roughly one day in ten.
+ *
+ * <p>The encoded size is compared with the 32 bytes a {@code LocalDate} and a boxed {@code Long} per change take at
+ * the least, and every series is checked against the observations it was built from. Results are written to
+ * {@code target/price-history-benchmark.txt}. Only runs with {@code ./mvnw test -Ploadtest}.</p>
+ */
+@Slf4j
+@Tag("loadtest")
+class PriceHistoryBenchmarkTests {
+
+    private static final int BOXED_BYTES_PER_CHANGE = 32;
+
+    private final int seriesCount = Integer.getInteger("benchmark.series", 30_000);
+    private final int days = Integer.getInteger("benchmark.days", 730);
+
+    @Test
+    void benchmark() throws Exception {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        PriceSeries[] series = new PriceSeries[seriesCount];
+        long[][] observed = new long[seriesCount][days];
+        long changes = 0;
+        long encodedBytes = 0;
+        long buildBegin = System.nanoTime();
+        for (int s = 0; s < seriesCount; s++) {
+            long price = 1_000 + random.nextInt(100_000);
+            PriceSeries.Builder builder = PriceSeries.builder();
+            for (int day = 0; day < days; day++) {
+                if (random.nextInt(10) == 0) {
+                    price = Math.max(100, price + random.nextLong(-price / 10, price / 10 + 1));
+                }
+                observed[s][day] = price;
+                builder.add(start.plusDays(day), price);
+            }
+            series[s] = builder.build();
+            changes += series[s].size();
+            encodedBytes += series[s].encodedBytes();
+        }
+        long buildNanos = System.nanoTime() - buildBegin;
+
+        // A trend chart reads the last 90 days of one product at one chain
+        LocalDate from = start.plusDays(days - 90L);
+        LocalDate to = start.plusDays(days - 1L);
+        long[] latencies = new long[seriesCount];
+        long[] points = {0};
+        for (int s = 0; s < seriesCount; s++) {
+            long begin = System.nanoTime();
+            series[s].forEachBetween(from, to, (date, pricePaise) -> points[0]++);
+            latencies[s] = System.nanoTime() - begin;
+        }
+        for (int s = 0; s < seriesCount; s += 97) {
+            for (int day = 0; day < days; day += 7) {
+                assertEquals(observed[s][day], series[s].priceOn(start.plusDays(day)));
+            }
+        }
+        Arrays.sort(latencies);
+
+        String report = String.format(Locale.ROOT,
+                "%d series of %d daily observations, %d changes kept, built in %.1f ms%n"
+                        + "encoded %.1f bytes per change, %.1f KB in total (boxed: %.1f KB)%n"
+                        + "90-day window read: p50 %.2f us, p99 %.2f us, %.1f points per series%n",
+                seriesCount, days, changes, buildNanos / 1e6,
+                (double) encodedBytes / changes, encodedBytes / 1024.0, changes * BOXED_BYTES_PER_CHANGE / 1024.0,
+                latencies[seriesCount / 2] / 1e3, latencies[seriesCount * 99 / 100] / 1e3,
+                (double) points[0] / seriesCount);
+        log.info("Price history benchmark:\n{}", report);
+        Path reportFile = Path.of("target/price-history-benchmark.txt");
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        Files.writeString(reportFile, report);
+    }
+}
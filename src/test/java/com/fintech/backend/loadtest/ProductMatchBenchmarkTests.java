@@ -0,0 +1,142 @@
+package com.fintech.backend.loadtest;
+
+import com.fintech.backend.utils.catalogue.ProductNameIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures receipt item matching against a {@link ProductNameIndex} of {@code benchmark.products} synthetic
+ * products, each indexed by name and by brand plus name like the catalogue.
+ *
+ * <p>Queries are product names with receipt-style noise: upper case, a dropped or swapped letter, a truncated word,
+ * a missing pack size. The index build time, per-lookup latency and the share of lookups that found the intended
+ * product are written to {@code target/product-match-benchmark.txt}. Only runs with
+ * {@code ./mvnw test -Ploadtest}.</p>
+ */
+@Slf4j
+@Tag("loadtest")
+class ProductMatchBenchmarkTests {
+
+    private static final String CONSONANTS = "bcdfghjklmnprstvwyz";
+    private static final String VOWELS = "aeiou";
+    private static final String[] SIZES = {"100 g", "200 g", "500 g", "1 kg", "5 kg", "250 ml", "500 ml", "1 l", "2 l"};
+
+    private final int products = Integer.getInteger("benchmark.products", 100_000);
+    private final int lookups = Integer.getInteger("benchmark.lookups", 20_000);
+    private final double threshold = Double.parseDouble(System.getProperty("benchmark.threshold", "0.4"));
+
+    @Test
+    void benchmark() throws Exception {
+        SplittableRandom random = new SplittableRandom(42);
+        List<String> brands = words(random, 500);
+        List<String> words = words(random, 5_000);
+
+        Set<String> names = new LinkedHashSet<>();
+        while (names.size() < products) {
+            names.add(words.get(random.nextInt(words.size())) + " " + words.get(random.nextInt(words.size())) + " "
+                    + words.get(random.nextInt(words.size())) + " " + SIZES[random.nextInt(SIZES.length)]);
+        }
+        List<String> productNames = new ArrayList<>(names);
+        long buildBegin = System.nanoTime();
+        ProductNameIndex.Builder builder = ProductNameIndex.builder();
+        for (int id = 0; id < productNames.size(); id++) {
+            builder.add(id, productNames.get(id));
+            builder.add(id, brands.get(id % brands.size()) + " " + productNames.get(id));
+        }
+        ProductNameIndex index = builder.build();
+        long buildNanos = System.nanoTime() - buildBegin;
+
+        int[] expected = new int[lookups];
+        String[] queries = new String[lookups];
+        for (int i = 0; i < lookups; i++) {
+            expected[i] = random.nextInt(productNames.size());
+            queries[i] = noisy(random, productNames.get(expected[i]));
+        }
+        for (int i = 0; i < lookups / 4; i++) {
+            index.bestMatch(queries[i], threshold);
+        }
+
+        long[] latencies = new long[lookups];
+        int correct = 0;
+        int unmatched = 0;
+        for (int i = 0; i < lookups; i++) {
+            long begin = System.nanoTime();
+            ProductNameIndex.Match match = index.bestMatch(queries[i], threshold);
+            latencies[i] = System.nanoTime() - begin;
+            if (match == null) {
+                unmatched++;
+            } else if (match.productId() == expected[i]) {
+                correct++;
+            }
+        }
+        Arrays.sort(latencies);
+        double avgMicros = Arrays.stream(latencies).average().orElse(0) / 1e3;
+
+        String report = String.format(Locale.ROOT,
+                "%d products (%d index entries), built in %.1f ms%n"
+                        + "%d noisy lookups at threshold %.2f: avg %.1f us, p50 %.1f us, p99 %.1f us%n"
+                        + "matched the intended product %.1f%%, wrong product %.1f%%, no match %.1f%%%n",
+                productNames.size(), index.size(), buildNanos / 1e6, lookups, threshold, avgMicros,
+                latencies[lookups / 2] / 1e3, latencies[lookups * 99 / 100] / 1e3,
+                100.0 * correct / lookups, 100.0 * (lookups - correct - unmatched) / lookups, 100.0 * unmatched / lookups);
+        log.info("Product match benchmark:\n{}", report);
+        Path reportFile = Path.of("target/product-match-benchmark.txt");
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        Files.writeString(reportFile, report);
+
+        assertTrue(correct > lookups * 0.9, "Fewer than 90% of noisy lookups found their product");
+    }
+
+    // Pronounceable words of 4 to 9 letters, alternating consonants and vowels
+    private static List<String> words(SplittableRandom random, int count) {
+        Set<String> words = new LinkedHashSet<>();
+        while (words.size() < count) {
+            StringBuilder word = new StringBuilder();
+            int length = 4 + random.nextInt(6);
+            for (int i = 0; i < length; i++) {
+                String letters = i % 2 == 0 ? CONSONANTS : VOWELS;
+                word.append(letters.charAt(random.nextInt(letters.length())));
+            }
+            word.setCharAt(0, Character.toUpperCase(word.charAt(0)));
+            words.add(word.toString());
+        }
+        return new ArrayList<>(words);
+    }
+
+    // Applies one or two of the distortions receipt OCR tends to produce
+    private static String noisy(SplittableRandom random, String name) {
+        String[] words = name.split(" ");
+        int edits = 1 + random.nextInt(2);
+        for (int e = 0; e < edits; e++) {
+            int w = random.nextInt(3);
+            String word = words[w];
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    int at = random.nextInt(word.length());
+                    words[w] = word.substring(0, at) + word.substring(at + 1);
+                }
+                case 1 -> {
+                    int at = random.nextInt(word.length() - 1);
+                    words[w] = word.substring(0, at) + word.charAt(at + 1) + word.charAt(at) + word.substring(at + 2);
+                }
+                case 2 -> words[w] = word.substring(0, Math.min(word.length(), 4)) + ".";
+                default -> words[words.length - 1] = "";
+            }
+        }
+        String query = String.join(" ", words).trim();
+        return random.nextBoolean() ? query.toUpperCase(Locale.ROOT) : query;
+    }
+}
@@ -0,0 +1,113 @@
+package com.fintech.backend.loadtest;
+
+import com.fintech.backend.utils.geo.GeoGrid;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures nearest-store lookups in a {@link GeoGrid} of {@code benchmark.stores} random stores spread over the Pune
+ * metropolitan area, against a scan of every store.
+ *
+ * <p>Every grid answer is checked against the scan, so the benchmark also guards the early stop of the ring search.
+ * The build time and per-lookup latency of both are written to {@code target/store-locator-benchmark.txt}. Only
+ * runs with {@code ./mvnw test -Ploadtest}.</p>
+ */
+@Slf4j
+@Tag("loadtest")
+class StoreLocatorBenchmarkTests {
+
+    private static final double MIN_LATITUDE = 18.40;
+    private static final double MAX_LATITUDE = 18.85;
+    private static final double MIN_LONGITUDE = 73.65;
+    private static final double MAX_LONGITUDE = 74.05;
+
+    private final int stores = Integer.getInteger("benchmark.stores", 100_000);
+    private final int lookups = Integer.getInteger("benchmark.lookups", 5_000);
+    private final int nearest = Integer.getInteger("benchmark.nearest", 5);
+    private final double cellKm = Double.parseDouble(System.getProperty("benchmark.cell-km", "2"));
+
+    @Test
+    void benchmark() throws Exception {
+        SplittableRandom random = new SplittableRandom(42);
+        double[] latitudes = new double[stores];
+        double[] longitudes = new double[stores];
+        for (int i = 0; i < stores; i++) {
+            latitudes[i] = random.nextDouble(MIN_LATITUDE, MAX_LATITUDE);
+            longitudes[i] = random.nextDouble(MIN_LONGITUDE, MAX_LONGITUDE);
+        }
+        long buildBegin = System.nanoTime();
+        GeoGrid grid = GeoGrid.of(latitudes, longitudes, cellKm);
+        long buildNanos = System.nanoTime() - buildBegin;
+
+        // Some queries fall outside the area, as a user just beyond the city limits would
+        double[][] queries = new double[lookups][];
+        for (int i = 0; i < lookups; i++) {
+            queries[i] = new double[]{random.nextDouble(MIN_LATITUDE - 0.1, MAX_LATITUDE + 0.1),
+                    random.nextDouble(MIN_LONGITUDE - 0.1, MAX_LONGITUDE + 0.1)};
+        }
+        for (int i = 0; i < lookups / 4; i++) {
+            grid.nearest(queries[i][0], queries[i][1], nearest);
+        }
+
+        long[] gridLatencies = new long[lookups];
+        long[] scanLatencies = new long[lookups];
+        for (int i = 0; i < lookups; i++) {
+            long begin = System.nanoTime();
+            List<GeoGrid.Neighbour> found = grid.nearest(queries[i][0], queries[i][1], nearest);
+            gridLatencies[i] = System.nanoTime() - begin;
+
+            begin = System.nanoTime();
+            int[] expected = scan(latitudes, longitudes, queries[i][0], queries[i][1], nearest);
+            scanLatencies[i] = System.nanoTime() - begin;
+            assertEquals(Arrays.toString(expected),
+                    Arrays.toString(found.stream().mapToInt(GeoGrid.Neighbour::point).toArray()),
+                    "Grid and scan disagree for " + Arrays.toString(queries[i]));
+        }
+        Arrays.sort(gridLatencies);
+        Arrays.sort(scanLatencies);
+
+        String report = String.format(Locale.ROOT,
+                "%d stores in %.1f km cells, built in %.1f ms%n"
+                        + "%d nearest-%d lookups: grid p50 %.1f us, p99 %.1f us; scan p50 %.1f us, p99 %.1f us%n"
+                        + "all grid answers matched the scan%n",
+                stores, cellKm, buildNanos / 1e6, lookups, nearest,
+                gridLatencies[lookups / 2] / 1e3, gridLatencies[lookups * 99 / 100] / 1e3,
+                scanLatencies[lookups / 2] / 1e3, scanLatencies[lookups * 99 / 100] / 1e3);
+        log.info("Store locator benchmark:\n{}", report);
+        Path reportFile = Path.of("target/store-locator-benchmark.txt");
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        Files.writeString(reportFile, report);
+    }
+
+    // Keeps the limit nearest stores seen so far in an insertion-sorted array
+    private static int[] scan(double[] latitudes, double[] longitudes, double latitude, double longitude, int limit) {
+        int[] points = new int[limit];
+        double[] distances = new double[limit];
+        int kept = 0;
+        for (int i = 0; i < latitudes.length; i++) {
+            double distance = GeoGrid.distanceKm(latitude, longitude, latitudes[i], longitudes[i]);
+            if (kept == limit && distance >= distances[limit - 1]) {
+                continue;
+            }
+            int at = kept < limit ? kept++ : limit - 1;
+            while (at > 0 && distances[at - 1] > distance) {
+                points[at] = points[at - 1];
+                distances[at] = distances[at - 1];
+                at--;
+            }
+            points[at] = i;
+            distances[at] = distance;
+        }
+        return Arrays.copyOf(points, kept);
+    }
+}
@@ -0,0 +1,79 @@
+package com.fintech.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives {@code upload-analyze} and {@code transaction-create} with {@code loadtest.benchmark.virtual-users}
+ * concurrent clients, once per thread mode (see the two subclasses). Each run writes
+ * {@code target/loadtest-benchmark-<mode>.txt} and counts {@code jdk.VirtualThreadPinned} JFR events
+ * longer than 20 ms, so a regression into a pinning {@code synchronized}/JDBC path is visible.
+ */
+@Slf4j
+@Tag("loadtest")
+@ActiveProfiles("loadtest")
+@Import(LoadTestConfig.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+abstract class ThreadModeBenchmark {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private LoadTestProperties properties;
+
+    @Autowired
+    private LoadTestSeeder seeder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Test
+    void benchmark() throws Exception {
+        List<Long> userIds = seeder.seed();
+        LoadTestProperties.Benchmark benchmark = properties.getBenchmark();
+        AtomicLong pinnedEvents = new AtomicLong();
+
+        try (RecordingStream pinning = new RecordingStream();
+             LoadDriver driver = new LoadDriver(port, objectMapper)) {
+            pinning.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(20));
+            pinning.onEvent("jdk.VirtualThreadPinned", event -> pinnedEvents.incrementAndGet());
+            pinning.startAsync();
+
+            long elapsed = driver.run(userIds, benchmark.getWeights(), benchmark.getVirtualUsers(),
+                    benchmark.getDuration(), Duration.ZERO);
+
+            String mode = virtualThreads ? "virtual" : "platform";
+            LatencyRecorder recorder = driver.recorder();
+            String report = String.format(Locale.ROOT, "mode=%s clients=%d pinned-events=%d%n",
+                    mode, benchmark.getVirtualUsers(), pinnedEvents.get()) + recorder.report(elapsed);
+            log.info("Thread mode benchmark:\n{}", report);
+            Path reportFile = Path.of("target", "loadtest-benchmark-" + mode + ".txt");
+            Files.createDirectories(reportFile.toAbsolutePath().getParent());
+            Files.writeString(reportFile, report);
+
+            assertTrue(recorder.totalRequests() > 0, "No requests completed during the benchmark");
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.fintech.backend.service;
+
+import com.fintech.backend.dto.CategoryGoalsDto;
+import com.fintech.backend.dto.GoalProgressDto;
+import com.fintech.backend.dto.SignupDto;
+import com.fintech.backend.dto.TransactionDetailsDto;
+import com.fintech.backend.dto.TransactionItemDto;
+import com.fintech.backend.models.GoalCategories;
+import com.fintech.backend.models.Products;
+import com.fintech.backend.models.SavingGoals;
+import com.fintech.backend.models.Users;
+import com.fintech.backend.repository.AccountRepository;
+import com.fintech.backend.repository.GoalCategoriesRepository;
+import com.fintech.backend.repository.ProductsRepository;
+import com.fintech.backend.repository.SavingGoalsRepository;
+import com.fintech.backend.utils.enums.Status;
+import com.fintech.backend.utils.money.Money;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Fires many transactions, budget changes and goal amount changes for one user at the same time and checks
+ * that the account balance, the category goal's saved amount and the saving goal's balance and goal amount
+ * add up exactly, and that the cached goal progress snapshot reflects them.
+ *
+ * <p>Runs against its own in-memory H2 database; raise {@code -Dconcurrency.transactions} for a heavier run.</p>
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:${random.uuid};DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=60000",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.hikari.maximum-pool-size=20",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.ai.model.chat=none",
+        "spring.ai.model.embedding.text=none",
+        "spring.ai.google.genai.api-key=test"
+})
+class ConcurrentTransactionTotalsTests {
+
+    private static final String ITEM_NAME = "Concurrency Item";
+    private static final double PAYMENT = 90.0;
+    private static final double ITEM_TOTAL = 100.0;
+    private static final double GOAL_AMOUNT = 12_345.0;
+
+    @Value("${concurrency.transactions:300}")
+    private int transactions;
+
+    @Value("${concurrency.threads:16}")
+    private int threads;
+
+    @Autowired
+    private UsersService usersService;
+
+    @Autowired
+    private TransactionsService transactionsService;
+
+    @Autowired
+    private GoalsService goalsService;
+
+    @Autowired
+    private Scheduler scheduler;
+
+    @Autowired
+    private ProductsRepository productsRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private SavingGoalsRepository savingGoalsRepository;
+
+    @Autowired
+    private GoalCategoriesRepository goalCategoriesRepository;
+
+    // Receipts are not analysed here; the mock only satisfies the chat client
+    @TestConfiguration
+    static class ReceiptModelConfig {
+        @Bean
+        ChatModel chatModel() {
+            return mock(ChatModel.class);
+        }
+    }
+
+    @Test
+    void concurrentUpdatesKeepExactTotals() throws InterruptedException {
+        productsRepository.save(new Products(ITEM_NAME, "pcs"));
+        Users user = usersService.createUser(SignupDto.builder()
+                .fullName("Concurrency User")
+                .email("concurrency-" + System.nanoTime() + "@finwise.test")
+                .phoneNumber(9_100_000_000L)
+                .dateOfBirth(LocalDate.of(1995, 1, 1))
+                .password("password")
+                .build());
+        scheduler.createMonthlySavingGoals();
+        goalsService.createOrUpdateCategoryGoalForUser(user.getUserId(),
+                CategoryGoalsDto.builder().category("FOOD").budgetedAmount(5_000.0).build());
+        goalsService.createOrUpdateCategoryGoalForUser(user.getUserId(),
+                CategoryGoalsDto.builder().category("TRANSPORT").budgetedAmount(1_000.0).build());
+
+        // Warm the progress snapshot so the assertions below also prove it was evicted by the writes
+        goalsService.getGoalProgress(user.getUserId());
+
+        runConcurrently(i -> {
+            if (i % 10 == 0) {
+                double budget = ThreadLocalRandom.current().nextInt(500, 5_000);
+                goalsService.createOrUpdateCategoryGoalForUser(user.getUserId(),
+                        CategoryGoalsDto.builder().category("TRANSPORT").budgetedAmount(budget).build());
+            }
+            transactionsService.createNewTransaction(user.getUserId(), foodTransaction());
+        });
+
+        long expectedSavedPaise = transactions * Money.toPaise(ITEM_TOTAL - PAYMENT);
+        assertEquals(-transactions * Money.toPaise(PAYMENT), accountRepository.findByUserId(user).getCurrentBalancePaise());
+
+        SavingGoals savingGoal = savingGoalsRepository.findByStatusAndUserId(Status.ACTIVE, user);
+        assertEquals(expectedSavedPaise, savingGoal.getCurrentBalancePaise());
+
+        List<GoalCategories> goalCategories = goalCategoriesRepository.findAllByGoalId_UserId(user);
+        GoalCategories food = goalCategories.stream()
+                .filter(goalCategory -> goalCategory.getCategoryId().getCategory().equals("FOOD")).findFirst().orElseThrow();
+        assertEquals(expectedSavedPaise, food.getSavedAmountPaise());
+
+        long budgetTotalPaise = goalCategories.stream().mapToLong(GoalCategories::getBudgetedAmountPaise).sum();
+        assertEquals(budgetTotalPaise, savingGoal.getGoalAmountPaise());
+
+        GoalProgressDto progress = goalsService.getGoalProgress(user.getUserId());
+        assertEquals(Money.toRupees(expectedSavedPaise), progress.getCurrentBalance());
+        assertEquals(Money.toRupees(budgetTotalPaise), progress.getSavingAmount());
+
+        // Setting the goal amount directly must not write back a stale balance either
+        runConcurrently(i -> {
+            if (i % 10 == 0) {
+                goalsService.updateSavingGoalForUser(user.getUserId(), GOAL_AMOUNT);
+            }
+            transactionsService.createNewTransaction(user.getUserId(), foodTransaction());
+        });
+
+        savingGoal = savingGoalsRepository.findByStatusAndUserId(Status.ACTIVE, user);
+        assertEquals(2 * expectedSavedPaise, savingGoal.getCurrentBalancePaise());
+        assertEquals(Money.toPaise(GOAL_AMOUNT), savingGoal.getGoalAmountPaise());
+
+        progress = goalsService.getGoalProgress(user.getUserId());
+        assertEquals(Money.toRupees(2 * expectedSavedPaise), progress.getCurrentBalance());
+        assertEquals(GOAL_AMOUNT, progress.getSavingAmount());
+    }
+
+    // Runs the task once per transaction on the thread pool and fails if any run threw
+    private void runConcurrently(IntConsumer task) throws InterruptedException {
+        AtomicInteger failures = new AtomicInteger();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < transactions; i++) {
+                int index = i;
+                executor.submit(() -> {
+                    try {
+                        task.accept(index);
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    }
+                });
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.MINUTES), "Transactions did not finish in time");
+        }
+        assertEquals(0, failures.get(), "Some transactions failed");
+    }
+
+    private static TransactionDetailsDto foodTransaction() {
+        return TransactionDetailsDto.builder()
+                .title("Concurrent Purchase")
+                .category("FOOD")
+                .description("Concurrency test")
+                .transactionId("")
+                .date(LocalDate.now().toString())
+                .time("12:00:00")
+                .status("COMPLETE")
+                .paymentMethod("Card")
+                .paymentAmount(PAYMENT)
+                .isExpense(true)
+                .transactionItems(List.of(TransactionItemDto.builder()
+                        .productName(ITEM_NAME)
+                        .pricePerItem(ITEM_TOTAL)
+                        .quantity(1)
+                        .totalPrice(ITEM_TOTAL)
+                        .build()))
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.fintech.backend.service;
+
+import com.fintech.backend.dto.GoalHistoryDto;
+import com.fintech.backend.dto.GoalMonthHistoryDto;
+import com.fintech.backend.utils.enums.Status;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the success rate and streaks {@link GoalsService#summarizeHistory} works out over a fixed list of closed
+ * months: gap and on-hold months break a streak, the current streak must reach last month, and months outside the
+ * window are left out.
+ */
+class GoalHistorySummaryTests {
+
+    // Newest first, as GoalHistoryCache serves it; March 2025 has no goal
+    private static final List<GoalMonthHistoryDto> CLOSED_MONTHS = List.of(
+            month("2025-05", Status.COMPLETED),
+            month("2025-04", Status.COMPLETED),
+            month("2025-02", Status.COMPLETED),
+            month("2025-01", Status.COMPLETED),
+            month("2024-12", Status.COMPLETED),
+            month("2024-11", Status.ON_HOLD),
+            month("2024-01", Status.COMPLETED));
+
+    @Test
+    void gapMonthBreaksStreak() {
+        GoalHistoryDto summary = GoalsService.summarizeHistory(CLOSED_MONTHS, 12, YearMonth.of(2025, 6));
+
+        assertEquals(12, summary.getMonths());
+        assertEquals(6, summary.getHistory().size());
+        assertEquals(5, summary.getCompletedMonths());
+        assertEquals(83.33, summary.getSuccessRate());
+        assertEquals(3, summary.getLongestStreak());
+        assertEquals(2, summary.getCurrentStreak());
+    }
+
+    @Test
+    void streakNotReachingLastMonthIsNotCurrent() {
+        GoalHistoryDto summary = GoalsService.summarizeHistory(CLOSED_MONTHS, 12, YearMonth.of(2025, 8));
+
+        assertEquals(3, summary.getLongestStreak());
+        assertEquals(0, summary.getCurrentStreak());
+    }
+
+    @Test
+    void onHoldMonthEndsCurrentStreak() {
+        GoalHistoryDto summary = GoalsService.summarizeHistory(CLOSED_MONTHS.subList(5, 7), 12, YearMonth.of(2024, 12));
+
+        assertEquals(2, summary.getHistory().size());
+        assertEquals(50.0, summary.getSuccessRate());
+        assertEquals(1, summary.getLongestStreak());
+        assertEquals(0, summary.getCurrentStreak());
+    }
+
+    @Test
+    void monthsOutsideWindowAreLeftOut() {
+        GoalHistoryDto summary = GoalsService.summarizeHistory(CLOSED_MONTHS, 3, YearMonth.of(2025, 6));
+
+        assertEquals(List.of("2025-05", "2025-04"),
+                summary.getHistory().stream().map(GoalMonthHistoryDto::getMonth).toList());
+        assertEquals(2, summary.getCompletedMonths());
+        assertEquals(100.0, summary.getSuccessRate());
+        assertEquals(2, summary.getLongestStreak());
+        assertEquals(2, summary.getCurrentStreak());
+    }
+
+    @Test
+    void emptyHistoryHasNoRateOrStreaks() {
+        GoalHistoryDto summary = GoalsService.summarizeHistory(List.of(), 6, YearMonth.of(2025, 6));
+
+        assertEquals(0, summary.getCompletedMonths());
+        assertEquals(0.0, summary.getSuccessRate());
+        assertEquals(0, summary.getLongestStreak());
+        assertEquals(0, summary.getCurrentStreak());
+    }
+
+    private static GoalMonthHistoryDto month(String month, Status status) {
+        return GoalMonthHistoryDto.builder().month(month).status(status.name()).build();
+    }
+}
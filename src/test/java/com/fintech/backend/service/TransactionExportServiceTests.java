@@ -0,0 +1,155 @@
+package com.fintech.backend.service;
+
+import com.fintech.backend.dto.SignupDto;
+import com.fintech.backend.models.Products;
+import com.fintech.backend.models.TransactionItems;
+import com.fintech.backend.models.Transactions;
+import com.fintech.backend.models.Users;
+import com.fintech.backend.repository.ProductsRepository;
+import com.fintech.backend.repository.TransactionItemsRepository;
+import com.fintech.backend.repository.TransactionsRepository;
+import com.fintech.backend.utils.enums.ExportFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Exports a fixed set of transactions and checks the exact NDJSON and CSV output: items grouped under their
+ * transaction, a transaction without items, newest first, and CSV quoting of separators, quotes and line breaks.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:${random.uuid};DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.ai.model.chat=none",
+        "spring.ai.model.embedding.text=none",
+        "spring.ai.google.genai.api-key=test"
+})
+class TransactionExportServiceTests {
+
+    @Autowired
+    private TransactionExportService exportService;
+
+    @Autowired
+    private UsersService usersService;
+
+    @Autowired
+    private CategoryRegistry categoryRegistry;
+
+    @Autowired
+    private ProductsRepository productsRepository;
+
+    @Autowired
+    private TransactionsRepository transactionsRepository;
+
+    @Autowired
+    private TransactionItemsRepository transactionItemsRepository;
+
+    private Users user;
+
+    // Receipts are not analysed here; the mock only satisfies the chat client
+    @TestConfiguration
+    static class ReceiptModelConfig {
+        @Bean
+        ChatModel chatModel() {
+            return mock(ChatModel.class);
+        }
+    }
+
+    @BeforeEach
+    void createTransactions() {
+        user = usersService.createUser(SignupDto.builder()
+                .fullName("Export User")
+                .email("export-" + System.nanoTime() + "@finwise.test")
+                .phoneNumber(9_200_000_000L)
+                .dateOfBirth(LocalDate.of(1995, 1, 1))
+                .password("password")
+                .build());
+        String suffix = "-" + user.getUserId();
+
+        Transactions salary = transaction("salary" + suffix, LocalDate.of(2025, 3, 1), "09:00:00", "Morning",
+                "Salary", null, null, "Bank Transfer", 100_000, false);
+        Transactions lunch = transaction("lunch" + suffix, LocalDate.of(2025, 3, 2), "12:30:00", "Afternoon",
+                "Lunch, \"Cafe\"", "two\nlines", "FOOD", "Card", 15_050, true);
+        item(lunch, "Masala Dosa", 2, 5_025, 10_050);
+        item(lunch, "Filter Coffee", 1, 5_000, 5_000);
+    }
+
+    @Test
+    void exportsCsvRowPerItem() {
+        String suffix = "-" + user.getUserId();
+        assertEquals(TransactionExportService.CSV_HEADER + "\r\n"
+                        + "lunch" + suffix + ",2025-03-02,12:30:00,Afternoon,\"Lunch, \"\"Cafe\"\"\",\"two\nlines\","
+                        + "FOOD,Card,150.50,true,Masala Dosa,2,50.25,100.50\r\n"
+                        + "lunch" + suffix + ",2025-03-02,12:30:00,Afternoon,\"Lunch, \"\"Cafe\"\"\",\"two\nlines\","
+                        + "FOOD,Card,150.50,true,Filter Coffee,1,50.00,50.00\r\n"
+                        + "salary" + suffix + ",2025-03-01,09:00:00,Morning,Salary,,,Bank Transfer,1000.00,false,,,,\r\n",
+                export(ExportFormat.CSV));
+    }
+
+    @Test
+    void exportsNdjsonLinePerTransaction() {
+        String suffix = "-" + user.getUserId();
+        assertEquals("{\"title\":\"Lunch, \\\"Cafe\\\"\",\"timeGroup\":\"Afternoon\",\"category\":\"FOOD\","
+                        + "\"description\":\"two\\nlines\",\"transactionId\":\"lunch" + suffix + "\","
+                        + "\"date\":\"2025-03-02\",\"time\":\"12:30:00\",\"status\":\"COMPLETE\",\"paymentMethod\":\"Card\","
+                        + "\"paymentAmount\":150.5,\"transactionItems\":["
+                        + "{\"productName\":\"Masala Dosa\",\"totalPrice\":100.5,\"quantity\":2,\"pricePerItem\":50.25},"
+                        + "{\"productName\":\"Filter Coffee\",\"totalPrice\":50.0,\"quantity\":1,\"pricePerItem\":50.0}],"
+                        + "\"isExpense\":true}\n"
+                        + "{\"title\":\"Salary\",\"timeGroup\":\"Morning\",\"category\":null,\"description\":null,"
+                        + "\"transactionId\":\"salary" + suffix + "\",\"date\":\"2025-03-01\",\"time\":\"09:00:00\","
+                        + "\"status\":\"COMPLETE\",\"paymentMethod\":\"Bank Transfer\",\"paymentAmount\":1000.0,"
+                        + "\"transactionItems\":[],\"isExpense\":false}\n",
+                export(ExportFormat.NDJSON));
+    }
+
+    private String export(ExportFormat format) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(user.getUserId(), format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private Transactions transaction(String transactionId, LocalDate date, String time, String timeGroup, String title,
+                                     String description, String category, String paymentMethod, long amountPaise,
+                                     boolean isExpense) {
+        Transactions transaction = new Transactions();
+        transaction.setTransactionId(transactionId);
+        transaction.setUserId(user);
+        transaction.setDate(date);
+        transaction.setTime(time);
+        transaction.setTimeGroup(timeGroup);
+        transaction.setTitle(title);
+        transaction.setDescription(description);
+        transaction.setCategory(category == null ? null : categoryRegistry.resolve(category));
+        transaction.setPaymentMethod(paymentMethod);
+        transaction.setTotalTransactionAmountPaise(amountPaise);
+        transaction.setIsExpense(isExpense);
+        return transactionsRepository.save(transaction);
+    }
+
+    private void item(Transactions transaction, String productName, int quantity, long pricePerItemPaise,
+                      long totalPricePaise) {
+        TransactionItems item = new TransactionItems();
+        item.setTransactionId(transaction);
+        item.setProductId(productsRepository.save(new Products(productName, "pcs")));
+        item.setQuantity(quantity);
+        item.setPricePerItemPaise(pricePerItemPaise);
+        item.setTotalPricePaise(totalPricePaise);
+        transactionItemsRepository.save(item);
+    }
+}